@@ -49,7 +49,9 @@ import androidx.core.view.NestedScrollingParentHelper;
 import androidx.core.view.WindowInsetsCompat;
 
 import com.hchen.himiuix.callback.OnAppBarListener;
+import com.hchen.himiuix.callback.OnBlurLevelChangedListener;
 import com.hchen.himiuix.helper.AppBarHelper;
+import com.hchen.himiuix.helper.BlurPolicyHelper;
 import com.hchen.himiuix.helper.WindowInsetsHelper;
 import com.hchen.himiuix.springback.SpringBackLayout;
 import com.hchen.himiuix.springback.SpringScroller;
@@ -67,7 +69,7 @@ import java.util.WeakHashMap;
  * @author 焕晨HChen
  * @noinspection FieldCanBeLocal
  */
-public class MiuixAppBar extends ViewGroup implements NestedScrollingParent3, OnAppBarListener {
+public class MiuixAppBar extends ViewGroup implements NestedScrollingParent3, OnAppBarListener, OnBlurLevelChangedListener {
     private static final String TAG = "HiMiuix:AppBar";
     private NestedScrollingParentHelper helper;
 
@@ -82,6 +84,7 @@ public class MiuixAppBar extends ViewGroup implements NestedScrollingParent3, On
     private View targetView;
     private boolean isAdded;
     private boolean isInitialled;
+    private boolean isBlurEnabled = true;
 
     // --- Touch ---
     private static final int TOUCH_UNKNOWN = 0;
@@ -294,6 +297,18 @@ public class MiuixAppBar extends ViewGroup implements NestedScrollingParent3, On
         return toolbar;
     }
 
+    // 是否启用模糊，关闭后使用不透明背景
+    // 启用时实际效果由 BlurPolicyHelper 根据设备状态决定
+    public void setBlurEnabled(boolean enabled) {
+        if (isBlurEnabled == enabled) return;
+        isBlurEnabled = enabled;
+        if (isAttachedToWindow()) updateBlur(BlurPolicyHelper.getBlurLevel(getContext()));
+    }
+
+    public boolean isBlurEnabled() {
+        return isBlurEnabled;
+    }
+
     @Override
     protected void onFinishInflate() {
         super.onFinishInflate();
@@ -303,13 +318,35 @@ public class MiuixAppBar extends ViewGroup implements NestedScrollingParent3, On
     @Override
     protected void onAttachedToWindow() {
         super.onAttachedToWindow();
-        if (MiuiSuperBlur.isSupportBlur()) applyBlur();
+        BlurPolicyHelper.addListener(getContext(), this);
+        updateBlur(BlurPolicyHelper.getBlurLevel(getContext()));
+    }
+
+    @Override
+    public void blurLevelChanged(int level) {
+        updateBlur(level);
+    }
+
+    private void updateBlur(int level) {
+        if (!isBlurEnabled) level = BlurPolicyHelper.BLUR_LEVEL_OFF;
+        if (MiuiSuperBlur.isSupportBlur()) MiuiSuperBlur.clearAllBlur(overallView);
+
+        int color = getContext().getColor(R.color.miuix_theme_color);
+        switch (level) {
+            case BlurPolicyHelper.BLUR_LEVEL_FULL, BlurPolicyHelper.BLUR_LEVEL_REDUCED -> {
+                overallView.setBackground(null);
+                applyBlur(BlurPolicyHelper.getBlurRadius(getContext(), level));
+            }
+            case BlurPolicyHelper.BLUR_LEVEL_SCRIM ->
+                overallView.setBackgroundColor(BlurPolicyHelper.getScrimColor(color));
+            default -> overallView.setBackgroundColor(color);
+        }
     }
 
-    private void applyBlur() {
+    private void applyBlur(int radius) {
         MiuiSuperBlur.setMiViewBlurMode(overallView, 1);
         MiuiSuperBlur.setMiBackgroundBlurMode(overallView, 1);
-        MiuiSuperBlur.setMiBackgroundBlurRadius(overallView, (int) (getContext().getResources().getDisplayMetrics().density * 66 + 0.5f));
+        MiuiSuperBlur.setMiBackgroundBlurRadius(overallView, radius);
         int[] colors = MiuiSuperBlur.getBlendColor(getContext(), Color.TRANSPARENT, !MiuixUtils.isDarkMode(getResources()) ?
             new int[]{-1889443744, -1543503873} :
             new int[]{1970500467, -1979711488, 184549375});
@@ -324,6 +361,7 @@ public class MiuixAppBar extends ViewGroup implements NestedScrollingParent3, On
         super.onDetachedFromWindow();
         targetSet.clear();
         cancelSpringAnimation();
+        BlurPolicyHelper.removeListener(this);
         MiuiSuperBlur.clearAllBlur(overallView);
         AppBarHelper.removeOnToolbarListener(this);
     }
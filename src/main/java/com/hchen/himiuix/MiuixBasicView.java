@@ -24,7 +24,10 @@ import android.annotation.SuppressLint;
 import android.content.Context;
 import android.content.Intent;
 import android.content.res.TypedArray;
+import android.graphics.Canvas;
+import android.graphics.Color;
 import android.graphics.drawable.Drawable;
+import android.graphics.drawable.ShapeDrawable;
 import android.util.AttributeSet;
 import android.view.LayoutInflater;
 import android.view.MotionEvent;
@@ -44,10 +47,14 @@ import androidx.annotation.StringRes;
 import androidx.appcompat.content.res.AppCompatResources;
 import androidx.cardview.widget.CardView;
 import androidx.core.content.ContextCompat;
-import androidx.recyclerview.widget.RecyclerView;
 
+import com.hchen.himiuix.callback.OnIconLoadedListener;
 import com.hchen.himiuix.callback.OnRefreshViewListener;
+import com.hchen.himiuix.helper.AuditHelper;
+import com.hchen.himiuix.helper.IconLoaderHelper;
+import com.hchen.himiuix.helper.PrecomputedTextHelper;
 import com.hchen.himiuix.helper.ShadowHelper;
+import com.hchen.himiuix.widget.MiuixFlatContentView;
 
 import java.util.Objects;
 
@@ -58,6 +65,21 @@ import java.util.Objects;
  */
 public class MiuixBasicView extends LinearLayout {
     static final String TAG = "HiMiuix";
+    // 待刷新的内容标记
+    static final int DIRTY_TITLE = 1;
+    static final int DIRTY_SUMMARY = 1 << 1;
+    static final int DIRTY_TIP = 1 << 2;
+    static final int DIRTY_ICON = 1 << 3;
+    static final int DIRTY_INDICATOR = 1 << 4;
+    static final int DIRTY_CUSTOM = 1 << 5;
+    static final int DIRTY_SHADOW = 1 << 6;
+    // 状态视图的选中状态及其对应的 tip 与摘要
+    static final int DIRTY_STATE = 1 << 7;
+    // 将选中状态作为用户操作同步到组件，会经过 OnStateChangeListener 拦截
+    // 仅 refreshView 包含此标记，设置器合并的刷新不会触发
+    static final int DIRTY_USER_STATE = 1 << 8;
+    static final int DIRTY_ALL = ~0;
+    private static final int DISABLED_ALPHA = 128;
     private View marginView;
     private CardView cardView;
     private ImageView iconView;
@@ -67,12 +89,20 @@ public class MiuixBasicView extends LinearLayout {
     private ViewStub dynamicViewStub;
     private View indicatorView;
     private LinearLayout customLayout;
+    private ViewStub iconStub;
+    private ViewStub summaryStub;
+    private ViewStub tipStub;
+    private ViewStub marginStub;
+    private ViewStub customStub;
+    private MiuixFlatContentView flatContentView;
 
     private CharSequence title;
     private CharSequence summary;
     private CharSequence tip;
     private Intent intent;
     private Drawable icon;
+    private IconLoaderHelper.Source iconSource;
+    private IconLoaderHelper.Request iconRequest;
     private Drawable indicator;
     private View customView;
     private int background;
@@ -80,9 +110,18 @@ public class MiuixBasicView extends LinearLayout {
     private boolean isEnabled;
     private boolean isAdded;
     private boolean isReverseEnabled;
+    private boolean isFlatLayout;
     private boolean isHapticFeedbackEnabled;
     private boolean isShadowEnabled;
     private boolean isManuallyRefreshView;
+    private boolean isRefreshPending;
+    private boolean isRefreshScheduled;
+    private int dirtyFlags;
+    private int refreshFlags = DIRTY_ALL;
+    private final Runnable refreshRunnable = () -> {
+        isRefreshScheduled = false;
+        flushPendingRefresh();
+    };
     private ShadowHelper shadowHelper;
     private OnRefreshViewListener listener;
 
@@ -108,7 +147,9 @@ public class MiuixBasicView extends LinearLayout {
 
     public MiuixBasicView(@NonNull Context context, @Nullable AttributeSet attrs, int defStyleAttr, int defStyleRes) {
         super(context, attrs, defStyleAttr, defStyleRes);
+        long auditBegin = AuditHelper.begin();
         init(attrs, defStyleAttr, defStyleRes);
+        if (auditBegin != 0) AuditHelper.end(AuditHelper.VIEW_INFLATE, getClass().getSimpleName(), auditBegin);
     }
 
     @CallSuper
@@ -122,6 +163,8 @@ public class MiuixBasicView extends LinearLayout {
         background = typedArray.getResourceId(R.styleable.MiuixBasicView_android_background, 0);
         isEnabled = typedArray.getBoolean(R.styleable.MiuixBasicView_android_enabled, true);
         isReverseEnabled = typedArray.getBoolean(R.styleable.MiuixBasicView_reverseLayout, false);
+        isFlatLayout = typedArray.getBoolean(R.styleable.MiuixBasicView_flatLayout, false) &&
+            !isReverseEnabled && supportFlatLayout();
         isShadowEnabled = typedArray.getBoolean(R.styleable.MiuixBasicView_shadowEnabled, true);
         isHapticFeedbackEnabled = typedArray.getBoolean(R.styleable.MiuixBasicView_android_hapticFeedbackEnabled, true);
         indicator = typedArray.getDrawable(R.styleable.MiuixBasicView_indicator);
@@ -142,10 +185,12 @@ public class MiuixBasicView extends LinearLayout {
 
     // 加载基本布局
     // 这是本组件的核心布局
+    // 平铺模式下 icon、标题、摘要、tip 与指示器由单个视图绘制，仅保留自定义视图容器
     void createLayout() {
-        LayoutInflater.from(getContext()).inflate(
-            isReverseEnabled ? R.layout.miuix_reverse_layout : R.layout.miuix_layout,
-            this, true);
+        int layout;
+        if (isFlatLayout) layout = R.layout.miuix_flat_layout;
+        else layout = isReverseEnabled ? R.layout.miuix_reverse_layout : R.layout.miuix_layout;
+        LayoutInflater.from(getContext()).inflate(layout, this, true);
         setOrientation(VERTICAL);
         setGravity(CENTER);
     }
@@ -162,17 +207,34 @@ public class MiuixBasicView extends LinearLayout {
     // 仅在构建时调用一次
     @CallSuper
     void loadViewWhenBuild() {
-        marginView = findViewById(R.id.miuix_margin_view);
-        cardView = findViewById(R.id.miuix_icon_card);
-        iconView = findViewById(R.id.miuix_icon);
-        titleView = findViewById(R.id.miuix_title);
-        summaryView = findViewById(R.id.miuix_summary);
-        tipView = findViewById(R.id.miuix_tip);
-        dynamicViewStub = findViewById(R.id.miuix_dynamic_indicator_stub);
-        customLayout = findViewById(R.id.miuix_custom_view);
+        bindLayoutViews();
 
         if (background != 0) setBackgroundResource(background);
         else setBackgroundResource(R.color.miuix_basic_background_color);
+    }
+
+    // 绑定布局内的视图
+    // icon、摘要、tip、margin 与自定义视图容器均为 ViewStub，首次有内容时才会加载
+    private void bindLayoutViews() {
+        marginView = null;
+        customLayout = null;
+        marginStub = findViewById(R.id.miuix_margin_stub);
+        customStub = findViewById(R.id.miuix_custom_stub);
+        if (isFlatLayout) {
+            flatContentView = findViewById(R.id.miuix_flat_content);
+            return;
+        }
+
+        flatContentView = null;
+        cardView = null;
+        iconView = null;
+        summaryView = null;
+        tipView = null;
+        iconStub = findViewById(R.id.miuix_icon_stub);
+        summaryStub = findViewById(R.id.miuix_summary_stub);
+        tipStub = findViewById(R.id.miuix_tip_stub);
+        titleView = findViewById(R.id.miuix_title);
+        dynamicViewStub = findViewById(R.id.miuix_dynamic_indicator_stub);
 
         switch (loadDynamicIndicator()) {
             case INDICATOR_CUSTOM -> {
@@ -204,23 +266,117 @@ public class MiuixBasicView extends LinearLayout {
         return DynamicIndicator.INDICATOR_CUSTOM;
     }
 
+    // 是否支持平铺模式
+    // 仅箭头类指示器可以平铺，开关、复选框等交互组件需要真实视图
+    // 会直接修改子视图内容的子类需要返回 false
+    boolean supportFlatLayout() {
+        return loadDynamicIndicator() == DynamicIndicator.INDICATOR_CUSTOM;
+    }
+
+    @NonNull
+    private ImageView requireIconView() {
+        if (iconView == null) {
+            cardView = (CardView) inflateStub(iconStub);
+            iconView = cardView.findViewById(R.id.miuix_icon);
+        }
+        return iconView;
+    }
+
+    @NonNull
+    private TextView requireSummaryView() {
+        if (summaryView == null) summaryView = (TextView) inflateStub(summaryStub);
+        return summaryView;
+    }
+
+    @NonNull
+    private TextView requireTipView() {
+        if (tipView == null) tipView = (TextView) inflateStub(tipStub);
+        return tipView;
+    }
+
+    @NonNull
+    private View requireMarginView() {
+        if (marginView == null) marginView = inflateStub(marginStub);
+        return marginView;
+    }
+
+    @NonNull
+    private LinearLayout requireCustomLayout() {
+        if (customLayout == null) customLayout = (LinearLayout) inflateStub(customStub);
+        return customLayout;
+    }
+
+    // 加载 ViewStub 并同步当前的 Enabled 与 HapticFeedback 状态
+    @NonNull
+    private View inflateStub(@NonNull ViewStub stub) {
+        View view = stub.inflate();
+        view.setHapticFeedbackEnabled(isHapticFeedbackEnabled);
+        if (view instanceof ViewGroup viewGroup)
+            setHapticFeedbackEnabledInner(viewGroup, isHapticFeedbackEnabled);
+        return view;
+    }
+
+    // 退出平铺模式，重建为标准布局
+    // 需要直接访问子视图时请先显式调用，子视图 getter 不会再隐式重建布局
+    public void expandFlatLayout() {
+        if (!isFlatLayout) return;
+
+        isFlatLayout = false;
+        if (customView != null && customLayout != null) removeView(customLayout, customView);
+        isAdded = false;
+        removeAllViews();
+        createLayout();
+        bindLayoutViews();
+        updateViewContent();
+        updateVisibility();
+        applyEnabledState();
+        setHapticFeedbackEnabledInner(this, isHapticFeedbackEnabled);
+    }
+
     // 更新布局内容
     // 将在调用 refreshView 后被执行
     // 请不要在这里调用会触发 refreshView 的操作，会导致死循环
+    // 仅更新被标记的部分
     @CallSuper
     void updateViewContent() {
-        if (iconRadius != -1) cardView.setRadius(iconRadius);
-        if (shadowHelper != null) shadowHelper.setShadowEnabled(isShadowEnabled);
-        if (icon != null) iconView.setImageDrawable(icon);
-        if (title != null && !Objects.equals(titleView.getText(), title)) titleView.setText(title);
-        if (summary != null && !Objects.equals(summaryView.getText(), summary))
-            summaryView.setText(summary);
-        if (tip != null && !Objects.equals(titleView.getText(), tip)) tipView.setText(tip);
-        if (indicator != null && indicatorView instanceof ImageView imageView)
+        if (isDirty(DIRTY_SHADOW) && shadowHelper != null) shadowHelper.setShadowEnabled(isShadowEnabled);
+        if (isFlatLayout) {
+            if (isDirty(DIRTY_ICON)) flatContentView.setIcon(icon, iconRadius);
+            if (isDirty(DIRTY_TITLE)) flatContentView.setTitle(title);
+            if (isDirty(DIRTY_SUMMARY)) flatContentView.setSummary(summary);
+            if (isDirty(DIRTY_TIP)) flatContentView.setTip(tip);
+            if (isDirty(DIRTY_INDICATOR)) flatContentView.setIndicator(indicator);
+            updateCustomViewContent();
+            return;
+        }
+
+        if (isDirty(DIRTY_ICON)) {
+            if (icon != null) requireIconView().setImageDrawable(icon);
+            if (iconRadius != -1 && cardView != null) cardView.setRadius(iconRadius);
+        }
+        if (isDirty(DIRTY_TITLE) && title != null) PrecomputedTextHelper.setText(titleView, title);
+        if (isDirty(DIRTY_SUMMARY) && summary != null) PrecomputedTextHelper.setText(requireSummaryView(), summary);
+        if (isDirty(DIRTY_TIP) && tip != null) PrecomputedTextHelper.setText(requireTipView(), tip);
+        if (isDirty(DIRTY_INDICATOR) && indicator != null && indicatorView instanceof ImageView imageView)
             imageView.setImageDrawable(indicator);
-        if (customView != null) {
+        updateCustomViewContent();
+    }
+
+    // 供子类按状态显示摘要与提示，平铺模式下交给平铺视图绘制
+    void showSummaryText(@NonNull CharSequence text) {
+        if (isFlatLayout) flatContentView.setSummary(text);
+        else PrecomputedTextHelper.setText(requireSummaryView(), text);
+    }
+
+    void showTipText(@NonNull CharSequence text) {
+        if (isFlatLayout) flatContentView.setTip(text);
+        else PrecomputedTextHelper.setText(requireTipView(), text);
+    }
+
+    private void updateCustomViewContent() {
+        if (isDirty(DIRTY_CUSTOM) && customView != null) {
             if (!isAdded) {
-                addView(customLayout, customView);
+                addView(requireCustomLayout(), customView);
                 isAdded = true;
             }
         }
@@ -231,47 +387,123 @@ public class MiuixBasicView extends LinearLayout {
     // 请不要在这里调用会触发 refreshView 的操作，会导致死循环
     @CallSuper
     void updateVisibility() {
-        if (icon != null) cardView.setVisibility(VISIBLE);
-        else cardView.setVisibility(GONE);
+        if (isFlatLayout) {
+            flatContentView.setIndicatorVisible(intent != null || hasOnClickListeners() || forceShowCustomIndicatorView());
+            updateCustomViewVisibility(flatContentView.isIndicatorVisible());
+            return;
+        }
+
+        if (icon != null) requireIconView();
+        if (cardView != null) cardView.setVisibility(icon != null ? VISIBLE : GONE);
         if (title != null) titleView.setVisibility(VISIBLE);
         else titleView.setVisibility(GONE);
-        if (summary != null) summaryView.setVisibility(VISIBLE);
-        else summaryView.setVisibility(GONE);
-        if (tip != null) tipView.setVisibility(VISIBLE);
-        else tipView.setVisibility(GONE);
+        if (summary != null) requireSummaryView().setVisibility(VISIBLE);
+        else if (summaryView != null) summaryView.setVisibility(GONE);
+        if (tip != null) requireTipView().setVisibility(VISIBLE);
+        else if (tipView != null) tipView.setVisibility(GONE);
         if (indicatorView instanceof ImageView) {
             if (intent != null || hasOnClickListeners() || forceShowCustomIndicatorView())
                 indicatorView.setVisibility(VISIBLE);
             else indicatorView.setVisibility(GONE);
         } else indicatorView.setVisibility(GONE);
+        updateCustomViewVisibility(indicatorView.getVisibility() == VISIBLE);
+    }
+
+    private void updateCustomViewVisibility(boolean isIndicatorVisible) {
         if (customView != null) {
-            if (icon != null || title != null || summary != null || tip != null ||
-                indicatorView.getVisibility() == VISIBLE)
-                marginView.setVisibility(VISIBLE);
-            else marginView.setVisibility(GONE);
-            customLayout.setVisibility(VISIBLE);
+            if (icon != null || title != null || summary != null || tip != null || isIndicatorVisible)
+                requireMarginView().setVisibility(VISIBLE);
+            else if (marginView != null) marginView.setVisibility(GONE);
+            requireCustomLayout().setVisibility(VISIBLE);
         } else {
-            marginView.setVisibility(GONE);
-            customLayout.setVisibility(GONE);
+            if (marginView != null) marginView.setVisibility(GONE);
+            if (customLayout != null) customLayout.setVisibility(GONE);
         }
     }
 
+    // 是否为箭头类指示器
+    public boolean hasCustomIndicator() {
+        return loadDynamicIndicator() == DynamicIndicator.INDICATOR_CUSTOM;
+    }
+
+    // 设置箭头类指示器可见性，不会退出平铺模式
+    public void setCustomIndicatorVisible(boolean visible) {
+        if (!hasCustomIndicator()) return;
+        if (isFlatLayout) flatContentView.setIndicatorVisible(visible);
+        else indicatorView.setVisibility(visible ? VISIBLE : GONE);
+        updateCustomViewVisibility(isFlatLayout ? flatContentView.isIndicatorVisible() : visible);
+    }
+
+    // 是否处于平铺模式
+    public boolean isFlatLayout() {
+        return isFlatLayout;
+    }
+
     // 是否无视判断强制显示指示器
     public boolean forceShowCustomIndicatorView() {
         return false;
     }
 
     // 刷新布局
+    // 立即刷新全部内容，并合并尚未执行的刷新请求
     public final void refreshView() {
         if (isManuallyRefreshView)
             return;
 
-        updateViewContent();
-        updateVisibility();
+        performRefresh(DIRTY_ALL);
+    }
+
+    // 标记待刷新的内容，并在下一帧绘制前合并执行一次刷新
+    // 可见性与子类状态在每次刷新时都会更新，因此 flags 可以为 0
+    void requestRefresh(int flags) {
+        dirtyFlags |= flags;
+        isRefreshPending = true;
+        if (isManuallyRefreshView || isRefreshScheduled || !isAttachedToWindow()) return;
+
+        // 请求重新测量，使在布局过程中绑定的内容可以在本次测量前生效
+        isRefreshScheduled = true;
+        postOnAnimation(refreshRunnable);
+        requestLayout();
+    }
+
+    void requestRefresh() {
+        requestRefresh(0);
+    }
+
+    // 执行尚未完成的刷新
+    // 未附加到窗口时将在附加或测量时执行
+    private void flushPendingRefresh() {
+        if (!isRefreshPending || isManuallyRefreshView) return;
+        performRefresh(dirtyFlags);
+    }
+
+    private void performRefresh(int flags) {
+        isRefreshPending = false;
+        dirtyFlags = 0;
+        if (isRefreshScheduled) {
+            removeCallbacks(refreshRunnable);
+            isRefreshScheduled = false;
+        }
+
+        long auditBegin = AuditHelper.begin();
+        refreshFlags = flags;
+        try {
+            updateViewContent();
+            updateVisibility();
+        } finally {
+            refreshFlags = DIRTY_ALL;
+            if (auditBegin != 0) AuditHelper.end(AuditHelper.VIEW_REFRESH, getClass().getSimpleName(), auditBegin);
+        }
         if (listener != null)
             listener.refreshed(this);
     }
 
+    // 当前刷新是否包含指定内容
+    // 不在合并刷新中时视为全部需要更新
+    boolean isDirty(int flag) {
+        return (refreshFlags & flag) != 0;
+    }
+
     public void setTitle(@StringRes int id) {
         setTitle(getContext().getText(id));
     }
@@ -279,7 +511,7 @@ public class MiuixBasicView extends LinearLayout {
     public void setTitle(CharSequence title) {
         if (Objects.equals(this.title, title)) return;
         this.title = title;
-        refreshView();
+        requestRefresh(DIRTY_TITLE);
     }
 
     public void setSummary(@StringRes int id) {
@@ -289,7 +521,7 @@ public class MiuixBasicView extends LinearLayout {
     public void setSummary(CharSequence summary) {
         if (Objects.equals(this.summary, summary)) return;
         this.summary = summary;
-        refreshView();
+        requestRefresh(DIRTY_SUMMARY);
     }
 
     public void setTip(@StringRes int id) {
@@ -299,7 +531,7 @@ public class MiuixBasicView extends LinearLayout {
     public void setTip(CharSequence tip) {
         if (Objects.equals(this.tip, tip)) return;
         this.tip = tip;
-        refreshView();
+        requestRefresh(DIRTY_TIP);
     }
 
     public void setIcon(@DrawableRes int id) {
@@ -307,9 +539,49 @@ public class MiuixBasicView extends LinearLayout {
     }
 
     public void setIcon(Drawable icon) {
+        cancelIconRequest();
+        iconSource = null;
+        updateIcon(icon);
+    }
+
+    /**
+     * 在后台线程按显示尺寸加载图标，加载完成前显示同尺寸的透明占位
+     * <p>
+     * 再次设置图标时会取消未完成的请求，视图被复用时不会显示旧的结果
+     */
+    public void setIcon(@NonNull IconLoaderHelper.Source source) {
+        if (source.equals(iconSource)) return;
+        cancelIconRequest();
+        iconSource = source;
+
+        int size = getResources().getDimensionPixelSize(R.dimen.miuix_basic_icon_min);
+        iconRequest = IconLoaderHelper.load(getContext(), source, size, new OnIconLoadedListener() {
+            @Override
+            public void onIconLoaded(@Nullable Drawable icon) {
+                if (iconSource != source) return;
+                iconRequest = null;
+                updateIcon(icon);
+            }
+        });
+        if (iconRequest != null) {
+            ShapeDrawable placeholder = new ShapeDrawable();
+            placeholder.getPaint().setColor(Color.TRANSPARENT);
+            placeholder.setIntrinsicWidth(size);
+            placeholder.setIntrinsicHeight(size);
+            updateIcon(placeholder);
+        }
+    }
+
+    private void updateIcon(Drawable icon) {
         if (Objects.equals(this.icon, icon)) return;
         this.icon = icon;
-        refreshView();
+        requestRefresh(DIRTY_ICON);
+    }
+
+    private void cancelIconRequest() {
+        if (iconRequest == null) return;
+        iconRequest.cancel();
+        iconRequest = null;
     }
 
     public void setIndicator(@DrawableRes int id) {
@@ -319,7 +591,7 @@ public class MiuixBasicView extends LinearLayout {
     public void setIndicator(Drawable indicator) {
         if (Objects.equals(this.indicator, indicator)) return;
         this.indicator = indicator;
-        refreshView();
+        requestRefresh(DIRTY_INDICATOR);
     }
 
     public void setCustomView(@LayoutRes int id) {
@@ -329,37 +601,37 @@ public class MiuixBasicView extends LinearLayout {
     public void setCustomView(View customView) {
         if (Objects.equals(this.customView, customView)) return;
         if (this.customView != null && !Objects.equals(this.customView, customView)) {
-            removeView(customLayout, this.customView);
+            if (customLayout != null) removeView(customLayout, this.customView);
             isAdded = false;
         }
 
         this.customView = customView;
-        refreshView();
+        requestRefresh(DIRTY_CUSTOM);
     }
 
     public void setIntent(@Nullable Intent intent) {
         if (Objects.equals(this.intent, intent)) return;
         this.intent = intent;
-        refreshView();
+        requestRefresh();
     }
 
     public void setIconRadius(int iconRadius) {
         if (this.iconRadius == iconRadius) return;
         this.iconRadius = iconRadius;
-        refreshView();
+        requestRefresh(DIRTY_ICON);
     }
 
     public void setOnRefreshViewListener(OnRefreshViewListener listener) {
         if (Objects.equals(this.listener, listener)) return;
         this.listener = listener;
-        refreshView();
+        requestRefresh();
     }
 
     // 是否启用阴影动画
     public void setShadowEnabled(boolean enabled) {
         if (isShadowEnabled == enabled) return;
         isShadowEnabled = enabled;
-        refreshView();
+        requestRefresh(DIRTY_SHADOW);
     }
 
     public CharSequence getTitle() {
@@ -382,6 +654,11 @@ public class MiuixBasicView extends LinearLayout {
         return icon;
     }
 
+    @Nullable
+    public IconLoaderHelper.Source getIconSource() {
+        return iconSource;
+    }
+
     public Drawable getIndicator() {
         return indicator;
     }
@@ -399,31 +676,48 @@ public class MiuixBasicView extends LinearLayout {
     }
 
     // ------------------ View ---------------------
+    // 平铺模式下不存在这些子视图，调用前需先调用 expandFlatLayout()
+    // 尚未加载的子视图会在首次访问时加载，尚未执行的刷新会先被执行
     @NonNull
     public ImageView getIconView() {
-        return iconView;
+        checkNotFlatLayout();
+        flushPendingRefresh();
+        return requireIconView();
     }
 
     @NonNull
     public TextView getTitleView() {
+        checkNotFlatLayout();
+        flushPendingRefresh();
         return titleView;
     }
 
     @NonNull
     public TextView getSummaryView() {
-        return summaryView;
+        checkNotFlatLayout();
+        flushPendingRefresh();
+        return requireSummaryView();
     }
 
     @NonNull
     public TextView getTipView() {
-        return tipView;
+        checkNotFlatLayout();
+        flushPendingRefresh();
+        return requireTipView();
     }
 
     @NonNull
     public View getIndicatorView() {
+        checkNotFlatLayout();
+        flushPendingRefresh();
         return indicatorView;
     }
 
+    private void checkNotFlatLayout() {
+        if (isFlatLayout)
+            throw new IllegalStateException("[MiuixBasicView]: Child views are not available in flat layout, call expandFlatLayout() first!");
+    }
+
     // ----------------------------------------------
     @NonNull
     ShadowHelper getShadowHelper() {
@@ -435,14 +729,47 @@ public class MiuixBasicView extends LinearLayout {
     }
 
     // 跳过自动执行 refreshView，需要你手动调用 refreshView
+    // 设置器已合并为每帧一次刷新，一般无需使用
     public void setManuallyRefreshViewMode(boolean enabled) {
         isManuallyRefreshView = enabled;
+        if (!enabled && isRefreshPending) requestRefresh();
+    }
+
+    @Override
+    protected void onAttachedToWindow() {
+        super.onAttachedToWindow();
+        flushPendingRefresh();
+    }
+
+    @Override
+    protected void onDetachedFromWindow() {
+        super.onDetachedFromWindow();
+        if (isRefreshScheduled) {
+            removeCallbacks(refreshRunnable);
+            isRefreshScheduled = false;
+        }
+    }
+
+    @Override
+    protected void onMeasure(int widthMeasureSpec, int heightMeasureSpec) {
+        // 在测量前应用尚未执行的刷新，避免按旧内容测量
+        flushPendingRefresh();
+        long auditBegin = AuditHelper.begin();
+        super.onMeasure(widthMeasureSpec, heightMeasureSpec);
+        if (auditBegin != 0) AuditHelper.end(AuditHelper.VIEW_MEASURE, getClass().getSimpleName(), auditBegin);
+    }
+
+    @Override
+    protected void onLayout(boolean changed, int l, int t, int r, int b) {
+        long auditBegin = AuditHelper.begin();
+        super.onLayout(changed, l, t, r, b);
+        if (auditBegin != 0) AuditHelper.end(AuditHelper.VIEW_LAYOUT, getClass().getSimpleName(), auditBegin);
     }
 
     @Override
     public void setOnClickListener(@Nullable OnClickListener l) {
         super.setOnClickListener(l);
-        refreshView();
+        requestRefresh();
     }
 
     @Override
@@ -458,33 +785,41 @@ public class MiuixBasicView extends LinearLayout {
         if (isEnabled() != enabled) {
             isEnabled = enabled;
             super.setEnabled(enabled);
-            setEnabledInner(this, enabled);
+            applyEnabledState();
         }
     }
 
-    // 设置布局内所有组件 Enabled 状态
-    private void setEnabledInner(ViewGroup group, boolean enabled) {
-        for (int i = 0; i < group.getChildCount(); i++) {
-            View view = group.getChildAt(i);
-            if (view instanceof ViewGroup viewGroup) {
-                viewGroup.setEnabled(enabled);
-                // 对 RecyclerView 特殊处理
-                if (viewGroup instanceof RecyclerView recyclerView) {
-                    recyclerView.setLayoutFrozen(!enabled);
-                    recyclerView.setOnTouchListener((v, event) -> !enabled);
-                    recyclerView.post(() -> {
-                        setEnabledInner(recyclerView, enabled);
-                    });
-                    return;
-                }
-                setEnabledInner(viewGroup, enabled);
-            } else {
-                // 使用 50% 透明度作为 Disabled 状态
-                if (!enabled) view.setAlpha(0.5f);
-                else view.setAlpha(1.0f);
-                view.setEnabled(enabled);
-            }
+    // 子视图通过 duplicateParentState 获取 Enabled 状态，触摸由本视图拦截，
+    // 仅需同步少量可交互组件，无需遍历整个布局
+    private void applyEnabledState() {
+        setInteractiveViewsEnabled(isEnabled);
+        setDescendantFocusability(isEnabled ? FOCUS_AFTER_DESCENDANTS : FOCUS_BLOCK_DESCENDANTS);
+        invalidate();
+    }
+
+    // 同步子类持有的可交互组件（开关、复选框、滑动条、输入框等）的 Enabled 状态，
+    // 使其绘制与无障碍信息一致
+    void setInteractiveViewsEnabled(boolean enabled) {
+    }
+
+    // 使用 50% 透明度作为 Disabled 状态
+    // 子视图整体只应用一次透明度，背景保持不透明
+    @Override
+    protected void dispatchDraw(@NonNull Canvas canvas) {
+        if (isEnabled) {
+            super.dispatchDraw(canvas);
+            return;
         }
+        int saveCount = canvas.saveLayerAlpha(0, 0, getWidth(), getHeight(), DISABLED_ALPHA);
+        super.dispatchDraw(canvas);
+        canvas.restoreToCount(saveCount);
+    }
+
+    // Disabled 状态下拦截全部触摸，子视图不会收到事件
+    @Override
+    public boolean onInterceptTouchEvent(MotionEvent ev) {
+        if (!isEnabled()) return true;
+        return super.onInterceptTouchEvent(ev);
     }
 
     @Override
@@ -43,7 +43,9 @@ import androidx.annotation.Nullable;
 import androidx.core.graphics.Insets;
 import androidx.core.view.WindowInsetsCompat;
 
+import com.hchen.himiuix.callback.OnBlurLevelChangedListener;
 import com.hchen.himiuix.callback.OnItemSelectedListener;
+import com.hchen.himiuix.helper.BlurPolicyHelper;
 import com.hchen.himiuix.helper.HapticFeedbackHelper;
 import com.hchen.himiuix.helper.WindowInsetsHelper;
 import com.hchen.himiuix.utils.MiuiSuperBlur;
@@ -62,7 +64,7 @@ import java.util.Objects;
  *
  * @author 焕晨HChen
  */
-public class MiuixBottomNavigatorView extends LinearLayout implements OnItemSelectedListener {
+public class MiuixBottomNavigatorView extends LinearLayout implements OnItemSelectedListener, OnBlurLevelChangedListener {
     private static final String TAG = "Miuix:BottomNavigatorView";
     private static final String XML_MENU = "menu"; // Menu tag name in XML.
     private static final String XML_GROUP = "group"; // Group tag name in XML.
@@ -72,6 +74,7 @@ public class MiuixBottomNavigatorView extends LinearLayout implements OnItemSele
     private final Paint dividerPaint = new Paint(Paint.ANTI_ALIAS_FLAG);
     private OnItemSelectedListener listener;
     private boolean isHapticFeedbackEnabled;
+    private boolean isBlurEnabled = true;
     private int targetHeight;
     @MenuRes
     private int menuId;
@@ -142,17 +145,50 @@ public class MiuixBottomNavigatorView extends LinearLayout implements OnItemSele
         this.listener = listener;
     }
 
+    // 是否启用模糊，关闭后使用不透明背景
+    // 启用时实际效果由 BlurPolicyHelper 根据设备状态决定
+    public void setBlurEnabled(boolean enabled) {
+        if (isBlurEnabled == enabled) return;
+        isBlurEnabled = enabled;
+        if (isAttachedToWindow()) updateBlur(BlurPolicyHelper.getBlurLevel(getContext()));
+    }
+
+    public boolean isBlurEnabled() {
+        return isBlurEnabled;
+    }
+
     @Override
     protected void onAttachedToWindow() {
         super.onAttachedToWindow();
-        if (MiuiSuperBlur.isSupportBlur()) applyBlur();
+        BlurPolicyHelper.addListener(getContext(), this);
+        updateBlur(BlurPolicyHelper.getBlurLevel(getContext()));
+    }
+
+    @Override
+    public void blurLevelChanged(int level) {
+        updateBlur(level);
     }
 
-    private void applyBlur() {
+    private void updateBlur(int level) {
+        if (!isBlurEnabled) level = BlurPolicyHelper.BLUR_LEVEL_OFF;
+        if (MiuiSuperBlur.isSupportBlur()) MiuiSuperBlur.clearAllBlur(this);
+
         int colorBottomSurface = getContext().getColor(R.color.miuix_default_surface_color);
+        switch (level) {
+            case BlurPolicyHelper.BLUR_LEVEL_FULL, BlurPolicyHelper.BLUR_LEVEL_REDUCED -> {
+                setBackground(null);
+                applyBlur(colorBottomSurface, BlurPolicyHelper.getBlurRadius(getContext(), level));
+            }
+            case BlurPolicyHelper.BLUR_LEVEL_SCRIM ->
+                setBackgroundColor(BlurPolicyHelper.getScrimColor(colorBottomSurface));
+            default -> setBackgroundColor(colorBottomSurface);
+        }
+    }
+
+    private void applyBlur(int colorBottomSurface, int radius) {
         MiuiSuperBlur.setMiViewBlurMode(this, 1);
         MiuiSuperBlur.setMiBackgroundBlurMode(this, 1);
-        MiuiSuperBlur.setMiBackgroundBlurRadius(this, (int) (getContext().getResources().getDisplayMetrics().density * 66 + 0.5f));
+        MiuiSuperBlur.setMiBackgroundBlurRadius(this, radius);
         int[] colors = MiuiSuperBlur.getBlendColor(getContext(), colorBottomSurface, !MiuixUtils.isDarkMode(getResources()) ?
             new int[]{-1889443744, -1543503873} :
             new int[]{1970500467, -1979711488, 184549375});
@@ -165,6 +201,7 @@ public class MiuixBottomNavigatorView extends LinearLayout implements OnItemSele
     @Override
     protected void onDetachedFromWindow() {
         super.onDetachedFromWindow();
+        BlurPolicyHelper.removeListener(this);
         MiuiSuperBlur.clearAllBlur(this);
     }
 
@@ -69,10 +69,15 @@ public class MiuixCheckBoxView extends MiuixStateView implements OnStateChangeLi
         xCheckBox.setVisibility(VISIBLE);
     }
 
+    @Override
+    void setInteractiveViewsEnabled(boolean enabled) {
+        if (xCheckBox != null) xCheckBox.setEnabled(enabled);
+    }
+
     @Override
     void updateViewContent() {
         // 跳过执行非用户的 Check 动作
-        if (!pass) {
+        if (isDirty(DIRTY_USER_STATE)) {
             if (!xCheckBox.setUserChecked(isChecked)) {
                 isChecked = !isChecked; // 被拦截，还原
             }
@@ -97,14 +102,14 @@ public class MiuixCheckBoxView extends MiuixStateView implements OnStateChangeLi
         if (isChecked == checked) return;
         isChecked = checked;
         xCheckBox.setChecked(checked);
-        passRefreshStateView();
+        requestRefresh(DIRTY_STATE);
     }
 
     @Override
     public boolean onStateChange(boolean newValue) {
         if (listener == null || listener.onStateChange(newValue)) {
             isChecked = newValue;
-            passRefreshStateView();
+            requestRefresh(DIRTY_STATE);
 
             return true;
         }
@@ -160,25 +160,25 @@ public class MiuixColorPickerView extends MiuixBasicView implements OnColorChang
     public void setColor(@ColorInt int color) {
         if (this.color == color) return;
         this.color = color;
-        refreshView();
+        requestRefresh();
     }
 
     public void setShowValueOnTip(boolean show) {
         if (isShowValueOnTip == show) return;
         isShowValueOnTip = show;
-        refreshView();
+        requestRefresh();
     }
 
     public void setAlwaysHapticFeedback(boolean enabled) {
         if (isAlwaysHapticFeedback == enabled) return;
         isAlwaysHapticFeedback = enabled;
-        refreshView();
+        requestRefresh();
     }
 
     public void setOnColorChangedListener(OnColorChangedListener listener) {
         if (Objects.equals(this.listener, listener)) return;
         this.listener = listener;
-        refreshView();
+        requestRefresh();
     }
 
     @ColorInt
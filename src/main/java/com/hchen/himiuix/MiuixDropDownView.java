@@ -81,6 +81,12 @@ public class MiuixDropDownView extends MiuixBasicView {
         getShadowHelper().setHapticFeedbackFlag(HapticFeedbackHelper.MIUI_POPUP_NORMAL);
     }
 
+    // 需要直接修改 tip 视图
+    @Override
+    boolean supportFlatLayout() {
+        return false;
+    }
+
     @Override
     void loadViewWhenBuild() {
         super.loadViewWhenBuild();
@@ -115,14 +121,14 @@ public class MiuixDropDownView extends MiuixBasicView {
     public void setEntries(CharSequence[] entries) {
         if (Arrays.equals(this.entries, entries)) return;
         this.entries = entries;
-        refreshView();
+        requestRefresh();
     }
 
     // 设置当前选中项目的索引值
     public void setValue(String value) {
         if (Objects.equals(this.value, value)) return;
         this.value = value;
-        refreshView();
+        requestRefresh();
     }
 
     // 设置当前选中的条目
@@ -130,20 +136,20 @@ public class MiuixDropDownView extends MiuixBasicView {
     public void setEntry(CharSequence entry) {
         if (Objects.equals(this.entry, entry)) return;
         this.entry = entry;
-        refreshView();
+        requestRefresh();
     }
 
 
     public void setOnChooseItemListener(OnChooseItemListener listener) {
         if (Objects.equals(this.listener, listener)) return;
         this.listener = listener;
-        refreshView();
+        requestRefresh();
     }
 
     public void setShowOnTip(boolean show) {
         if (isShowOnTip == show) return;
         isShowOnTip = show;
-        refreshView();
+        requestRefresh();
     }
 
     public CharSequence[] getEntries() {
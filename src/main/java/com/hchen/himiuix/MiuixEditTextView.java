@@ -72,6 +72,11 @@ public class MiuixEditTextView extends MiuixBasicView {
         setCustomView(xEditText);
     }
 
+    @Override
+    void setInteractiveViewsEnabled(boolean enabled) {
+        if (xEditText != null) xEditText.setEnabled(enabled);
+    }
+
     @Override
     void updateViewContent() {
         super.updateViewContent();
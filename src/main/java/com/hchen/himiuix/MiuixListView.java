@@ -22,7 +22,6 @@ import android.content.Context;
 import android.content.res.TypedArray;
 import android.graphics.drawable.Drawable;
 import android.util.AttributeSet;
-import android.util.SparseBooleanArray;
 import android.view.MotionEvent;
 import android.view.View;
 import android.view.ViewGroup;
@@ -34,7 +33,11 @@ import com.hchen.himiuix.callback.MiuixDialogInterface;
 import com.hchen.himiuix.callback.OnChooseItemListener;
 import com.hchen.himiuix.dialog.MiuixAlertDialog;
 import com.hchen.himiuix.helper.HapticFeedbackHelper;
+import com.hchen.himiuix.helper.IconLoaderHelper;
 import com.hchen.himiuix.list.MiuixListAdapter;
+import com.hchen.himiuix.list.MiuixListDataSource;
+import com.hchen.himiuix.list.MiuixListSections;
+import com.hchen.himiuix.list.MiuixListSelection;
 import com.hchen.himiuix.springback.SpringBackLayout;
 import com.hchen.himiuix.widget.MiuixCardView;
 
@@ -51,15 +54,18 @@ import java.util.Objects;
 public class MiuixListView extends MiuixBasicView implements OnChooseItemListener {
     private MiuixListAdapter xListAdapter;
     private MiuixCardView xCardView;
-    private SparseBooleanArray booleanArray;
-    private CharSequence[] lastItems;
+    private MiuixListSelection selection;
     private CharSequence[] items;
     private CharSequence[] selectedItems;
     private Integer[] selectedValues;
     private Drawable[] icons;
+    private IconLoaderHelper.Source[] iconSources;
+    private MiuixListDataSource dataSource;
+    private MiuixListSections sections;
     private int maxHeight;
     private boolean isMultipleChoiceEnabled;
     private boolean isDialogModeEnabled;
+    private boolean isFastScrollEnabled;
     private OnChooseItemListener listener;
     private boolean isShowing;
 
@@ -86,6 +92,7 @@ public class MiuixListView extends MiuixBasicView implements OnChooseItemListene
         maxHeight = typedArray.getDimensionPixelSize(R.styleable.MiuixListView_android_maxHeight, LayoutParams.WRAP_CONTENT);
         isMultipleChoiceEnabled = typedArray.getBoolean(R.styleable.MiuixListView_multipleChoiceEnabled, true);
         isDialogModeEnabled = typedArray.getBoolean(R.styleable.MiuixListView_enableDialogMode, true);
+        isFastScrollEnabled = typedArray.getBoolean(R.styleable.MiuixListView_fastScrollEnabled, false);
         typedArray.recycle();
 
         super.init(attrs, defStyleAttr, defStyleRes);
@@ -95,7 +102,7 @@ public class MiuixListView extends MiuixBasicView implements OnChooseItemListene
     void loadViewWhenBuild() {
         super.loadViewWhenBuild();
         if (!isDialogModeEnabled) {
-            booleanArray = new SparseBooleanArray();
+            selection = new MiuixListSelection();
             xCardView = new MiuixCardView(getContext());
             xCardView.setCardBackgroundColor(getContext().getColor(R.color.miuix_card_other));
             xCardView.setRadius(getContext().getResources().getDimensionPixelSize(R.dimen.miuix_item_radius));
@@ -121,18 +128,13 @@ public class MiuixListView extends MiuixBasicView implements OnChooseItemListene
     void updateViewContent() {
         super.updateViewContent();
         if (!isDialogModeEnabled) {
-            booleanArray.clear();
-            if (!Arrays.equals(lastItems, items)) {
-                xListAdapter.setItems(items);
-                if (lastItems != null)
-                    xListAdapter.notifyDataSetChanged();
-                lastItems = items;
-            }
-            xListAdapter.setIcons(icons);
+            selection.clear();
             xListAdapter.setOnChooseItemListener(this);
+            xListAdapter.setSections(sections);
+            xListAdapter.setFastScrollEnabled(isFastScrollEnabled);
             xListAdapter.setMultipleChoiceEnabled(isMultipleChoiceEnabled);
             if (selectedValues != null || selectedItems != null) {
-                if (selectedItems != null && selectedValues == null) {
+                if (selectedItems != null && selectedValues == null && items != null) {
                     ArrayList<Integer> integers = new ArrayList<>();
                     HashSet<CharSequence> set = new HashSet<>(Arrays.asList(selectedItems));
                     for (int i = 0; i < items.length; i++) {
@@ -142,16 +144,19 @@ public class MiuixListView extends MiuixBasicView implements OnChooseItemListene
                     selectedValues = integers.toArray(new Integer[0]);
                 }
 
-                HashSet<Integer> hashSet = new HashSet<>(Arrays.asList(selectedValues));
-                for (int i = 0; i < items.length; i++) {
-                    if (hashSet.contains(i)) {
-                        booleanArray.put(i, true);
-                        if (!isMultipleChoiceEnabled)
-                            break;
-                    }
+                selection.setAll(selectedValues);
+                if (items != null) selection.trim(items.length);
+                if (!isMultipleChoiceEnabled && selection.getCount() > 1) {
+                    int first = selection.getFirst();
+                    selection.clear();
+                    selection.set(first, true);
                 }
-                xListAdapter.setBooleanArray(booleanArray);
             }
+            // 差异在后台计算，只刷新发生变化的行
+            if (dataSource != null) {
+                if (xListAdapter.getDataSource() != dataSource) xListAdapter.setDataSource(dataSource);
+                xListAdapter.setSelection(selection);
+            } else xListAdapter.submitItems(items, icons, iconSources, selection);
         }
     }
 
@@ -216,46 +221,126 @@ public class MiuixListView extends MiuixBasicView implements OnChooseItemListene
         return super.dispatchTouchEvent(ev);
     }
 
+    /**
+     * 替换条目，已选中的条目在新数组中保持选中，不再存在的条目取消选中
+     */
     public void setItems(CharSequence[] items) {
         if (Arrays.equals(this.items, items)) return;
+        CharSequence[] oldItems = this.items;
         this.items = items;
-        refreshView();
+        if (oldItems != null && items != null && selectedValues != null) remapSelectedValues(oldItems);
+        requestRefresh();
+    }
+
+    // 选中位置按条目迁移到新数组，刷新时据此重建选中状态
+    private void remapSelectedValues(CharSequence[] oldItems) {
+        MiuixListSelection remapped = new MiuixListSelection();
+        remapped.setAll(selectedValues);
+        remapped.remap(oldItems, items);
+
+        int[] positions = remapped.toArray();
+        selectedValues = new Integer[positions.length];
+        selectedItems = new CharSequence[positions.length];
+        for (int i = 0; i < positions.length; i++) {
+            selectedValues[i] = positions[i];
+            selectedItems[i] = items[positions[i]];
+        }
     }
 
     public void setSelectedItems(CharSequence[] selectedItems) {
         if (Arrays.equals(this.selectedItems, selectedItems)) return;
         this.selectedItems = selectedItems;
-        refreshView();
+        requestRefresh();
     }
 
     public void setSelectedValues(Integer[] selectedValues) {
         if (Arrays.equals(this.selectedValues, selectedValues)) return;
         this.selectedValues = selectedValues;
-        refreshView();
+        requestRefresh();
     }
 
     public void setIcons(Drawable[] icons) {
         if (Arrays.deepEquals(this.icons, icons)) return;
         this.icons = icons;
-        refreshView();
+        requestRefresh();
+    }
+
+    /**
+     * 启用快速滚动条，仅在非对话框模式下生效
+     */
+    public void setFastScrollEnabled(boolean enabled) {
+        if (isFastScrollEnabled == enabled) return;
+        isFastScrollEnabled = enabled;
+        requestRefresh();
+    }
+
+    public boolean isFastScrollEnabled() {
+        return isFastScrollEnabled;
+    }
+
+    /**
+     * 设置分组，分组标题固定在列表顶部，仅在非对话框模式下生效
+     */
+    public void setSections(@Nullable MiuixListSections sections) {
+        if (Objects.equals(this.sections, sections)) return;
+        this.sections = sections;
+        requestRefresh();
+    }
+
+    @Nullable
+    public MiuixListSections getSections() {
+        return sections;
+    }
+
+    /**
+     * 以分页数据源代替条目数组，仅在非对话框模式下生效
+     */
+    public void setDataSource(@Nullable MiuixListDataSource dataSource) {
+        if (Objects.equals(this.dataSource, dataSource)) return;
+        this.dataSource = dataSource;
+        requestRefresh();
+    }
+
+    @Nullable
+    public MiuixListDataSource getDataSource() {
+        return dataSource;
+    }
+
+    /**
+     * 按前缀过滤条目，仅在非对话框模式下生效；已选中的条目在过滤后保持选中
+     */
+    public void setFilterQuery(@Nullable CharSequence query) {
+        if (xListAdapter != null) xListAdapter.setFilterQuery(query);
+    }
+
+    @Nullable
+    public CharSequence getFilterQuery() {
+        return xListAdapter != null ? xListAdapter.getFilterQuery() : null;
+    }
+
+    // 异步加载的图标来源，仅在非对话框模式下生效
+    public void setIconSources(IconLoaderHelper.Source[] iconSources) {
+        if (Arrays.equals(this.iconSources, iconSources)) return;
+        this.iconSources = iconSources;
+        requestRefresh();
     }
 
     public void setMultipleChoiceEnabled(boolean enabled) {
         if (isMultipleChoiceEnabled == enabled) return;
         isMultipleChoiceEnabled = enabled;
-        refreshView();
+        requestRefresh();
     }
 
     public void setOnChooseItemListener(OnChooseItemListener listener) {
         if (Objects.equals(this.listener, listener)) return;
         this.listener = listener;
-        refreshView();
+        requestRefresh();
     }
 
     public void setMaxHeight(int maxHeight) {
         if (this.maxHeight == maxHeight) return;
         this.maxHeight = maxHeight;
-        refreshView();
+        requestRefresh();
     }
 
     public CharSequence[] getItems() {
@@ -274,6 +359,10 @@ public class MiuixListView extends MiuixBasicView implements OnChooseItemListene
         return icons;
     }
 
+    public IconLoaderHelper.Source[] getIconSources() {
+        return iconSources;
+    }
+
     public int getMaxHeight() {
         return maxHeight;
     }
@@ -71,10 +71,15 @@ public class MiuixRadioButtonView extends MiuixStateView implements OnStateChang
         xRadioButton.setVisibility(VISIBLE);
     }
 
+    @Override
+    void setInteractiveViewsEnabled(boolean enabled) {
+        if (xRadioButton != null) xRadioButton.setEnabled(enabled);
+    }
+
     @Override
     void updateViewContent() {
         // 跳过非用户的 Check 动作
-        if (!pass) {
+        if (isDirty(DIRTY_USER_STATE)) {
             if (!xRadioButton.setUserChecked(isChecked))
                 isChecked = !isChecked; // 被拦截，还原
         }
@@ -103,7 +108,7 @@ public class MiuixRadioButtonView extends MiuixStateView implements OnStateChang
         xRadioButton.setChecked(checked);
         if (isChecked && onInnerCheckedListener != null)
             onInnerCheckedListener.onChecked(getId());
-        passRefreshStateView();
+        requestRefresh(DIRTY_STATE);
     }
 
     MiuixRadioButton getRadioButton() {
@@ -114,7 +119,7 @@ public class MiuixRadioButtonView extends MiuixStateView implements OnStateChang
     public boolean onStateChange(boolean newValue) {
         if (listener == null || listener.onStateChange(newValue)) {
             isChecked = newValue;
-            passRefreshStateView();
+            requestRefresh(DIRTY_STATE);
 
             // RadioGroup 回调
             if (isChecked && onInnerCheckedListener != null)
@@ -33,6 +33,7 @@ import androidx.annotation.Nullable;
 import com.hchen.himiuix.callback.MiuixDialogInterface;
 import com.hchen.himiuix.dialog.MiuixAlertDialog;
 import com.hchen.himiuix.helper.HapticFeedbackHelper;
+import com.hchen.himiuix.helper.HapticScheduler;
 import com.hchen.himiuix.widget.MiuixEditText;
 import com.hchen.himiuix.widget.MiuixSeekBar;
 
@@ -98,6 +99,12 @@ public class MiuixSeekBarView extends MiuixBasicView {
         super.init(attrs, defStyleAttr, defStyleRes);
     }
 
+    // 需要直接修改 tip 视图
+    @Override
+    boolean supportFlatLayout() {
+        return false;
+    }
+
     @Override
     void loadViewWhenBuild() {
         super.loadViewWhenBuild();
@@ -109,13 +116,13 @@ public class MiuixSeekBarView extends MiuixBasicView {
                 if (isShowDefaultPoint) {
                     if (progress == defValue || (isStep && progress == calculateStepCount(defValue))) {
                         xSeekBar.setShowDefaultPoint(false);
-                        HapticFeedbackHelper.performHapticFeedback(xSeekBar, HapticFeedbackHelper.MIUI_HOLD);
+                        HapticScheduler.perform(xSeekBar, HapticFeedbackHelper.MIUI_HOLD);
                     } else xSeekBar.setShowDefaultPoint(true);
                 }
                 // 仅响应用户动作
                 if (fromUser) {
                     if (isAlwaysHapticFeedback)
-                        HapticFeedbackHelper.performHapticFeedback(xSeekBar, HapticFeedbackHelper.MIUI_TAP_NORMAL);
+                        HapticScheduler.perform(xSeekBar, HapticFeedbackHelper.MIUI_TAP_NORMAL);
                     value = isStep ? calculateOriginalValue(progress) : progress;
                 }
                 if (listener != null) listener.onProgressChanged(seekBar, value, fromUser);
@@ -140,6 +147,12 @@ public class MiuixSeekBarView extends MiuixBasicView {
         xEditText.setInputType(InputType.TYPE_NUMBER_FLAG_SIGNED | InputType.TYPE_NUMBER_FLAG_DECIMAL | InputType.TYPE_CLASS_NUMBER);
     }
 
+    @Override
+    void setInteractiveViewsEnabled(boolean enabled) {
+        if (xSeekBar != null) xSeekBar.setEnabled(enabled);
+        if (xEditText != null) xEditText.setEnabled(enabled);
+    }
+
     @Override
     void updateViewContent() {
         super.updateViewContent();
@@ -249,27 +262,27 @@ public class MiuixSeekBarView extends MiuixBasicView {
         }
 
         this.value = value;
-        refreshView();
+        requestRefresh();
     }
 
     public void setDefValue(int defValue) {
         if (this.defValue == defValue) return;
         this.defValue = defValue;
-        refreshView();
+        requestRefresh();
     }
 
     public void setMaxValue(int maxValue) {
         if (this.maxValue == maxValue) return;
         this.maxValue = maxValue;
         isStep = false;
-        refreshView();
+        requestRefresh();
     }
 
     public void setMinValue(int minValue) {
         if (this.minValue == minValue) return;
         this.minValue = minValue;
         isStep = false;
-        refreshView();
+        requestRefresh();
     }
 
     public void setStepValue(int stepValue) {
@@ -277,50 +290,50 @@ public class MiuixSeekBarView extends MiuixBasicView {
         if (this.stepValue == stepValue) return;
         this.stepValue = stepValue;
         isStep = false;
-        refreshView();
+        requestRefresh();
     }
 
     public void setDividerValue(int dividerValue) {
         if (dividerValue <= 0) return;
         if (this.dividerValue == dividerValue) return;
         this.dividerValue = dividerValue;
-        refreshView();
+        requestRefresh();
     }
 
     public void setFormat(String format) {
         if (Objects.equals(this.format, format)) return;
         this.format = format;
-        refreshView();
+        requestRefresh();
     }
 
     public void setShowValueOnTip(boolean show) {
         if (isShowDefaultPoint == show) return;
         isShowValueOnTip = show;
-        refreshView();
+        requestRefresh();
     }
 
     public void setOnSeekBarChangeListener(SeekBar.OnSeekBarChangeListener listener) {
         if (Objects.equals(this.listener, listener)) return;
         this.listener = listener;
-        refreshView();
+        requestRefresh();
     }
 
     public void setDialogModeEnabled(boolean enable) {
         if (isDialogModeEnabled == enable) return;
         isDialogModeEnabled = enable;
-        refreshView();
+        requestRefresh();
     }
 
     public void setShowDefaultPoint(boolean show) {
         if (isShowDefaultPoint == show) return;
         isShowDefaultPoint = show;
-        refreshView();
+        requestRefresh();
     }
 
     public void setAlwaysHapticFeedback(boolean enable) {
         if (isAlwaysHapticFeedback == enable) return;
         isAlwaysHapticFeedback = enable;
-        refreshView();
+        requestRefresh();
     }
 
     public int getValue() {
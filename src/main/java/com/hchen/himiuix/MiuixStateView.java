@@ -36,7 +36,6 @@ import java.util.Objects;
  */
 public class MiuixStateView extends MiuixBasicView {
     boolean isChecked;
-    boolean pass;
     private CharSequence tipOn;
     private CharSequence tipOff;
     private CharSequence summaryOn;
@@ -76,30 +75,24 @@ public class MiuixStateView extends MiuixBasicView {
     void updateViewContent() {
         super.updateViewContent();
 
-        // 动态更新内容
-        if (tipOn != null || tipOff != null) {
-            if (tipOn != null && isChecked()) getTipView().setText(tipOn);
-            if (tipOff != null && !isChecked()) getTipView().setText(tipOff);
-
-            if (isChecked() && tipOn == null && getTip() != null)
-                getTipView().setText(getTip());
-            if (!isChecked() && tipOff == null && getTip() != null)
-                getTipView().setText(getTip());
+        // 动态更新内容，平铺模式下同样经由父类写入平铺视图
+        if ((tipOn != null || tipOff != null) && isDirty(DIRTY_STATE | DIRTY_TIP)) {
+            CharSequence text = isChecked() ? tipOn : tipOff;
+            if (text == null) text = getTip();
+            if (text != null) showTipText(text);
         }
-        if (summaryOn != null || summaryOff != null) {
-            if (summaryOn != null && isChecked()) getSummaryView().setText(summaryOn);
-            if (summaryOff != null && !isChecked()) getSummaryView().setText(summaryOff);
-
-            if (isChecked() && summaryOn == null && getSummary() != null)
-                getSummaryView().setText(getSummary());
-            if (!isChecked() && summaryOff == null && getSummary() != null)
-                getSummaryView().setText(getSummary());
+        if ((summaryOn != null || summaryOff != null) && isDirty(DIRTY_STATE | DIRTY_SUMMARY)) {
+            CharSequence text = isChecked() ? summaryOn : summaryOff;
+            if (text == null) text = getSummary();
+            if (text != null) showSummaryText(text);
         }
     }
 
     @Override
     void updateVisibility() {
         super.updateVisibility();
+        // 平铺视图按内容是否为空自行决定显示
+        if (isFlatLayout()) return;
 
         if (tipOn != null || tipOff != null)
             getTipView().setVisibility(VISIBLE);
@@ -117,31 +110,31 @@ public class MiuixStateView extends MiuixBasicView {
     public void setTipOn(CharSequence tipOn) {
         if (Objects.equals(this.tipOn, tipOn)) return;
         this.tipOn = tipOn;
-        passRefreshStateView();
+        requestRefresh(DIRTY_STATE);
     }
 
     public void setTipOff(CharSequence tipOff) {
         if (Objects.equals(this.tipOff, tipOff)) return;
         this.tipOff = tipOff;
-        passRefreshStateView();
+        requestRefresh(DIRTY_STATE);
     }
 
     public void setSummaryOn(CharSequence summaryOn) {
         if (Objects.equals(this.summaryOn, summaryOn)) return;
         this.summaryOn = summaryOn;
-        passRefreshStateView();
+        requestRefresh(DIRTY_STATE);
     }
 
     public void setSummaryOff(CharSequence summaryOff) {
         if (Objects.equals(this.summaryOff, summaryOff)) return;
         this.summaryOff = summaryOff;
-        passRefreshStateView();
+        requestRefresh(DIRTY_STATE);
     }
 
     public void setOnStateChangeListener(OnStateChangeListener listener) {
         if (Objects.equals(this.listener, listener)) return;
         this.listener = listener;
-        passRefreshStateView();
+        requestRefresh();
     }
 
     public CharSequence getTipOn() {
@@ -159,10 +152,4 @@ public class MiuixStateView extends MiuixBasicView {
     public CharSequence getSummaryOff() {
         return summaryOff;
     }
-
-    void passRefreshStateView() {
-        pass = true;
-        refreshView();
-        pass = false;
-    }
 }
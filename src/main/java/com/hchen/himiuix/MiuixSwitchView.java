@@ -69,10 +69,15 @@ public class MiuixSwitchView extends MiuixStateView implements OnStateChangeList
         xSwitch.setVisibility(VISIBLE);
     }
 
+    @Override
+    void setInteractiveViewsEnabled(boolean enabled) {
+        if (xSwitch != null) xSwitch.setEnabled(enabled);
+    }
+
     @Override
     void updateViewContent() {
         // 跳过非用户的 Check 动作
-        if (!pass) {
+        if (isDirty(DIRTY_USER_STATE)) {
             if (!xSwitch.setUserChecked(isChecked)) {
                 isChecked = !isChecked; // 被拦截，还原
             }
@@ -97,14 +102,14 @@ public class MiuixSwitchView extends MiuixStateView implements OnStateChangeList
         if (isChecked == checked) return;
         isChecked = checked;
         xSwitch.setChecked(checked);
-        passRefreshStateView();
+        requestRefresh(DIRTY_STATE);
     }
 
     @Override
     public boolean onStateChange(boolean newValue) {
         if (listener == null || listener.onStateChange(newValue)) {
             isChecked = newValue;
-            passRefreshStateView();
+            requestRefresh(DIRTY_STATE);
 
             return true;
         }
@@ -0,0 +1,33 @@
+/*
+ * This file is part of HiMiuix.
+ *
+ * HiMiuix is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * HiMiuix is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with HiMiuix. If not, see <https://www.gnu.org/licenses/lgpl-2.1>.
+ *
+ * Copyright (C) 2023–2025 HChenX
+ */
+package com.hchen.himiuix.callback;
+
+import android.graphics.drawable.Drawable;
+
+import androidx.annotation.Nullable;
+
+/**
+ * 图标加载完成回调
+ *
+ * @author 焕晨HChen
+ */
+public interface OnIconLoadedListener {
+    // 在主线程回调，加载失败时 icon 为 null
+    void onIconLoaded(@Nullable Drawable icon);
+}
@@ -32,6 +32,7 @@ import androidx.core.content.ContextCompat;
 import com.hchen.himiuix.R;
 import com.hchen.himiuix.callback.OnColorChangedListener;
 import com.hchen.himiuix.helper.HapticFeedbackHelper;
+import com.hchen.himiuix.helper.HapticScheduler;
 import com.hchen.himiuix.widget.MiuixSeekBar;
 
 /**
@@ -122,7 +123,7 @@ class ColorPickerBaseSeekBar extends MiuixSeekBar implements SeekBar.OnSeekBarCh
             value = progress;
             if (listener != null) listener.onColorValueChanged(type, value);
             if (isAlwaysHapticFeedback())
-                HapticFeedbackHelper.performHapticFeedback(this, HapticFeedbackHelper.MIUI_TAP_NORMAL);
+                HapticScheduler.perform(this, HapticFeedbackHelper.MIUI_TAP_NORMAL);
         }
     }
 
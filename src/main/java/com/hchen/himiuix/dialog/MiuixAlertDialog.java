@@ -31,6 +31,7 @@ import androidx.annotation.UiContext;
 import com.hchen.himiuix.R;
 import com.hchen.himiuix.callback.MiuixDialogInterface;
 import com.hchen.himiuix.callback.OnChooseItemListener;
+import com.hchen.himiuix.list.MiuixListSections;
 
 /**
  * Miuix Dialog
@@ -137,10 +138,10 @@ public class MiuixAlertDialog {
     }
 
     /**
-     * 设置 List 可选条目
+     * 设置 List 可选条目，已选中的条目在新数组中保持选中
      */
     public MiuixAlertDialog setItems(CharSequence[] items) {
-        base.items = items;
+        base.setItems(items);
         return this;
     }
 
@@ -160,6 +161,31 @@ public class MiuixAlertDialog {
         return this;
     }
 
+    /**
+     * 设置 List 分组，分组标题固定在列表顶部
+     */
+    public MiuixAlertDialog setSections(@Nullable MiuixListSections sections) {
+        base.sections = sections;
+        return this;
+    }
+
+    /**
+     * 启用 List 快速滚动条，存在分组时拖动会对齐到分组
+     */
+    public MiuixAlertDialog setFastScrollEnabled(boolean enabled) {
+        base.isFastScrollEnabled = enabled;
+        return this;
+    }
+
+    /**
+     * 按前缀过滤 List 条目，可在显示后随输入调用；已选中的条目在过滤后保持选中
+     */
+    public MiuixAlertDialog setFilterQuery(@Nullable CharSequence query) {
+        base.filterQuery = query;
+        if (base.xListAdapter != null) base.xListAdapter.setFilterQuery(query);
+        return this;
+    }
+
     /**
      * 设置 List 选中监听
      */
@@ -26,7 +26,6 @@ import android.content.Context;
 import android.content.res.Resources;
 import android.graphics.Point;
 import android.graphics.drawable.Drawable;
-import android.util.SparseBooleanArray;
 import android.view.LayoutInflater;
 import android.view.View;
 import android.view.ViewGroup;
@@ -47,6 +46,8 @@ import com.hchen.himiuix.callback.MiuixDialogInterface;
 import com.hchen.himiuix.callback.OnChooseItemListener;
 import com.hchen.himiuix.helper.HapticFeedbackHelper;
 import com.hchen.himiuix.list.MiuixListAdapter;
+import com.hchen.himiuix.list.MiuixListSections;
+import com.hchen.himiuix.list.MiuixListSelection;
 import com.hchen.himiuix.springback.SpringBackLayout;
 import com.hchen.himiuix.utils.MiuixUtils;
 import com.hchen.himiuix.widget.MiuixCardView;
@@ -54,8 +55,6 @@ import com.hchen.himiuix.widget.MiuixEditText;
 import com.hchen.himiuix.widget.MiuixTextView;
 
 import java.util.ArrayList;
-import java.util.Arrays;
-import java.util.HashSet;
 import java.util.List;
 import java.util.Objects;
 
@@ -109,7 +108,10 @@ abstract class MiuixAlertDialogBase implements MiuixDialogInterface {
     CharSequence[] items;
     Integer[] selectedValues;
     Drawable[] icons;
-    SparseBooleanArray booleanArray;
+    CharSequence filterQuery;
+    MiuixListSections sections;
+    boolean isFastScrollEnabled;
+    MiuixListSelection selection;
     boolean isListModeEnabled;
     boolean isMultipleChoiceEnabled;
     OnChooseItemListener onChooseItemListener;
@@ -245,7 +247,7 @@ abstract class MiuixAlertDialogBase implements MiuixDialogInterface {
 
     final void loadListViewIfNeed() {
         if (!isListModeEnabled) return;
-        booleanArray = new SparseBooleanArray();
+        selection = new MiuixListSelection();
 
         isCardViewModeEnabled = true;
         xListAdapter = new MiuixListAdapter(context);
@@ -255,17 +257,34 @@ abstract class MiuixAlertDialogBase implements MiuixDialogInterface {
         addView(springBackLayout, xListAdapter.getRecyclerView());
         customView = springBackLayout;
 
-        xListAdapter.setItems(items);
         xListAdapter.setMultipleChoiceEnabled(isMultipleChoiceEnabled);
         xListAdapter.setOnChooseItemListener(onChooseItemListener);
-        xListAdapter.setIcons(icons);
+        xListAdapter.setSections(sections);
+        xListAdapter.setFastScrollEnabled(isFastScrollEnabled);
         if (selectedValues != null) {
-            HashSet<Integer> hashSet = new HashSet<>(Arrays.asList(selectedValues));
-            for (int i = 0; i < items.length; i++) {
-                if (hashSet.contains(i))
-                    booleanArray.put(i, true);
+            selection.setAll(selectedValues);
+            selection.trim(items.length);
+        }
+        xListAdapter.submitItems(items, icons, selection);
+        xListAdapter.setFilterQuery(filterQuery);
+    }
+
+    // 选中状态跟随条目迁移，显示后由适配器按行 ID 迁移
+    final void setItems(CharSequence[] items) {
+        CharSequence[] oldItems = this.items;
+        this.items = items;
+        if (oldItems == null || items == null) return;
+
+        if (xListAdapter != null) xListAdapter.setItems(items);
+        else if (selectedValues != null) {
+            MiuixListSelection remapped = new MiuixListSelection();
+            remapped.setAll(selectedValues);
+            remapped.remap(oldItems, items);
+            int[] positions = remapped.toArray();
+            selectedValues = new Integer[positions.length];
+            for (int i = 0; i < positions.length; i++) {
+                selectedValues[i] = positions[i];
             }
-            xListAdapter.setBooleanArray(booleanArray);
         }
     }
 
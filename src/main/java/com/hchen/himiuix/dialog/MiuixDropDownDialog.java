@@ -21,7 +21,6 @@ package com.hchen.himiuix.dialog;
 import android.app.Dialog;
 import android.content.Context;
 import android.graphics.Point;
-import android.util.SparseBooleanArray;
 import android.view.Gravity;
 import android.view.View;
 import android.view.ViewGroup;
@@ -36,6 +35,7 @@ import com.hchen.himiuix.R;
 import com.hchen.himiuix.callback.MiuixDialogInterface;
 import com.hchen.himiuix.callback.OnChooseItemListener;
 import com.hchen.himiuix.list.MiuixListAdapter;
+import com.hchen.himiuix.list.MiuixListSelection;
 import com.hchen.himiuix.utils.MiuixUtils;
 import com.hchen.himiuix.widget.MiuixCardView;
 
@@ -221,15 +221,15 @@ public class MiuixDropDownDialog {
         if (onDismissListener != null)
             dialog.setOnDismissListener(dialog -> onDismissListener.onDismiss(null));
 
-        SparseBooleanArray booleanArray = new SparseBooleanArray();
-        if (value != null) booleanArray.put(Integer.parseInt(value), true);
+        MiuixListSelection selection = new MiuixListSelection();
+        if (value != null) selection.set(Integer.parseInt(value), true);
         else if (entry != null) {
             int index = -1;
             for (int i = 0; i < entries.length; i++) {
                 if (Objects.equals(entries[i], entry))
                     index = i;
             }
-            if (index != -1) booleanArray.put(index, true);
+            if (index != -1) selection.set(index, true);
         }
 
         MiuixCardView cardView = new MiuixCardView(context);
@@ -240,8 +240,7 @@ public class MiuixDropDownDialog {
         window.setWindowAnimations(R.style.MiuixDropDownDialogAnimation);
 
         MiuixListAdapter adapter = new MiuixListAdapter(context);
-        adapter.setItems(entries);
-        adapter.setBooleanArray(booleanArray);
+        adapter.submitItems(entries, null, selection);
         adapter.setOnChooseItemListener(new OnChooseItemListener() {
             @Override
             public boolean onChooseBefore(CharSequence item, int which) {
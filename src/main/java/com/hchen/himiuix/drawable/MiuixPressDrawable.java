@@ -0,0 +1,145 @@
+/*
+ * This file is part of HiMiuix.
+ *
+ * HiMiuix is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * HiMiuix is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with HiMiuix. If not, see <https://www.gnu.org/licenses/lgpl-2.1>.
+ *
+ * Copyright (C) 2023–2025 HChenX
+ */
+package com.hchen.himiuix.drawable;
+
+import android.graphics.Canvas;
+import android.graphics.Color;
+import android.graphics.PorterDuff;
+import android.graphics.Rect;
+import android.graphics.drawable.Drawable;
+import android.graphics.drawable.DrawableWrapper;
+import android.os.SystemClock;
+
+import androidx.annotation.NonNull;
+
+/**
+ * 按压高亮 Drawable
+ * <p>
+ * 包装原有背景并原样绘制，响应 state_pressed 在其上叠加半透明遮罩，
+ * 遮罩只覆盖背景已绘制的像素，圆角、描边与内边距均由原背景决定；
+ * 过渡由 Drawable 自行驱动，不依赖 Java 侧动画器与 Handler
+ *
+ * @author 焕晨HChen
+ */
+public class MiuixPressDrawable extends DrawableWrapper {
+    private static final long HIGHLIGHT_IN_DURATION = 100; // ms
+    private static final long HIGHLIGHT_OUT_DURATION = 200; // ms
+    private final int overlayColor;
+    private boolean isPressed;
+    private boolean isKeepHighlight;
+    private boolean isHighlightEnabled = true;
+    private boolean isAnimating;
+    private float progress; // 0 为无遮罩，1 为完整遮罩
+    private float fromProgress;
+    private float toProgress;
+    private long animationStartTime;
+    private long animationDuration;
+
+    /**
+     * @param background   被包装的原背景
+     * @param overlayColor 完全按下时叠加的颜色，通常为半透明的黑色或白色
+     */
+    public MiuixPressDrawable(@NonNull Drawable background, int overlayColor) {
+        super(background);
+        this.overlayColor = overlayColor;
+    }
+
+    public int getOverlayColor() {
+        return overlayColor;
+    }
+
+    /**
+     * 是否响应按压状态
+     */
+    public void setHighlightEnabled(boolean enabled) {
+        if (isHighlightEnabled == enabled) return;
+        isHighlightEnabled = enabled;
+        updateTarget();
+    }
+
+    /**
+     * 保持高亮，直到再次调用并传入 false
+     */
+    public void setKeepHighlight(boolean keep) {
+        if (isKeepHighlight == keep) return;
+        isKeepHighlight = keep;
+        updateTarget();
+    }
+
+    @Override
+    public boolean isStateful() {
+        return true;
+    }
+
+    @Override
+    protected boolean onStateChange(@NonNull int[] stateSet) {
+        // 原背景自身的状态变化同样需要处理
+        boolean changed = super.onStateChange(stateSet);
+        boolean pressed = false;
+        for (int s : stateSet) {
+            if (s == android.R.attr.state_pressed) {
+                pressed = true;
+                break;
+            }
+        }
+        if (isPressed == pressed) return changed;
+        isPressed = pressed;
+        return updateTarget() || changed;
+    }
+
+    private boolean updateTarget() {
+        float target = (isHighlightEnabled && isPressed) || isKeepHighlight ? 1f : 0f;
+        if (target == toProgress && (isAnimating || progress == target)) return false;
+
+        fromProgress = progress;
+        toProgress = target;
+        animationDuration = target == 1f ? HIGHLIGHT_IN_DURATION : HIGHLIGHT_OUT_DURATION;
+        animationStartTime = SystemClock.uptimeMillis();
+        isAnimating = true;
+        invalidateSelf();
+        return true;
+    }
+
+    @Override
+    public void draw(@NonNull Canvas canvas) {
+        if (isAnimating) {
+            float fraction = Math.min(1f, (float) (SystemClock.uptimeMillis() - animationStartTime) / animationDuration);
+            float interpolated = fraction * fraction; // AccelerateInterpolator
+            progress = fromProgress + (toProgress - fromProgress) * interpolated;
+            if (fraction >= 1f) {
+                progress = toProgress;
+                isAnimating = false;
+            }
+        }
+
+        int alpha = Math.round(Color.alpha(overlayColor) * progress);
+        if (alpha == 0) {
+            super.draw(canvas);
+        } else {
+            // 仅在按压过渡与高亮期间使用离屏图层，遮罩以 SRC_ATOP 叠加在原背景的像素上
+            Rect bounds = getBounds();
+            int saveCount = canvas.saveLayer(bounds.left, bounds.top, bounds.right, bounds.bottom, null);
+            super.draw(canvas);
+            canvas.drawColor((overlayColor & 0x00FFFFFF) | (alpha << 24), PorterDuff.Mode.SRC_ATOP);
+            canvas.restoreToCount(saveCount);
+        }
+
+        if (isAnimating) invalidateSelf();
+    }
+}
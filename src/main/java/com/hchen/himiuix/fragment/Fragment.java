@@ -18,9 +18,13 @@
  */
 package com.hchen.himiuix.fragment;
 
+import android.os.Bundle;
+
 import androidx.annotation.CallSuper;
+import androidx.annotation.Nullable;
 
 import com.hchen.himiuix.helper.AppBarHelper;
+import com.hchen.himiuix.helper.AuditHelper;
 
 /**
  * 继承此 Fragment 才能使用 MiuixAppBar
@@ -28,6 +32,13 @@ import com.hchen.himiuix.helper.AppBarHelper;
  * @author 焕晨HChen
  */
 public class Fragment extends androidx.fragment.app.Fragment {
+    @Override
+    @CallSuper
+    public void onCreate(@Nullable Bundle savedInstanceState) {
+        AuditHelper.setCurrentScreen(getClass().getName());
+        super.onCreate(savedInstanceState);
+    }
+
     @Override
     @CallSuper
     public void onStart() {
@@ -38,6 +49,7 @@ public class Fragment extends androidx.fragment.app.Fragment {
     @Override
     @CallSuper
     public void onResume() {
+        AuditHelper.setCurrentScreen(getClass().getName());
         AppBarHelper.callTargetRegister(getView());
         super.onResume();
     }
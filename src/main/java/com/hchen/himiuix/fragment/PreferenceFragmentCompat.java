@@ -18,9 +18,24 @@
  */
 package com.hchen.himiuix.fragment;
 
+import android.os.Bundle;
+import android.util.SparseIntArray;
+import android.view.ViewGroup;
+
 import androidx.annotation.CallSuper;
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.preference.Preference;
+import androidx.preference.PreferenceGroupAdapter;
+import androidx.preference.PreferenceScreen;
+import androidx.preference.PreferenceViewHolder;
+import androidx.recyclerview.widget.RecyclerView;
 
+import com.hchen.himiuix.R;
 import com.hchen.himiuix.helper.AppBarHelper;
+import com.hchen.himiuix.helper.AuditHelper;
+import com.hchen.himiuix.helper.PreInflateHelper;
+import com.hchen.himiuix.preference.MiuixPreference;
 
 /**
  * 继承此 Fragment 才能使用 MiuixAppBar
@@ -28,6 +43,80 @@ import com.hchen.himiuix.helper.AppBarHelper;
  * @author 焕晨HChen
  */
 public abstract class PreferenceFragmentCompat extends androidx.preference.PreferenceFragmentCompat {
+    // 创建适配器时预计算的首屏行数
+    private static final int TEXT_PREFETCH_INITIAL = 24;
+    // 绑定时向前与向后预计算的距离
+    private static final int TEXT_PREFETCH_DISTANCE = 8;
+    private PreInflateHelper preInflateHelper;
+
+    @Override
+    @CallSuper
+    public void onCreate(@Nullable Bundle savedInstanceState) {
+        AuditHelper.setCurrentScreen(getClass().getName());
+        super.onCreate(savedInstanceState);
+        int count = getPreInflateCount();
+        if (count > 0) {
+            preInflateHelper = new PreInflateHelper(requireContext());
+            preInflateHelper.prefill(R.layout.miuix_preference, count);
+        }
+    }
+
+    // 预加载的基本布局数量，返回 0 关闭预加载
+    protected int getPreInflateCount() {
+        return 12;
+    }
+
+    // 本页面的预加载池，可用于读取命中统计，关闭预加载时为 null
+    @Nullable
+    protected PreInflateHelper getPreInflateHelper() {
+        return preInflateHelper;
+    }
+
+    // 优先从预加载池中取用布局，视图仍由原适配器的标准流程创建
+    // 文本按显示顺序预计算：先是首屏，之后随绑定保持滚动方向上一小段的余量，缓存不会在绑定前被挤出
+    @NonNull
+    @Override
+    protected RecyclerView.Adapter onCreateAdapter(@NonNull PreferenceScreen preferenceScreen) {
+        PreferenceGroupAdapter adapter = new PreferenceGroupAdapter(preferenceScreen) {
+            private final SparseIntArray layouts = new SparseIntArray();
+
+            @Override
+            public int getItemViewType(int position) {
+                int viewType = super.getItemViewType(position);
+                Preference preference = getItem(position);
+                // 含 widget 布局的需要由原适配器额外加载
+                if (preference != null && preference.getWidgetLayoutResource() == 0)
+                    layouts.put(viewType, preference.getLayoutResource());
+                return viewType;
+            }
+
+            @NonNull
+            @Override
+            public PreferenceViewHolder onCreateViewHolder(@NonNull ViewGroup parent, int viewType) {
+                if (preInflateHelper == null || layouts.get(viewType) == 0 ||
+                    parent.getContext() != preInflateHelper.getContext())
+                    return super.onCreateViewHolder(parent, viewType);
+                return super.onCreateViewHolder(preInflateHelper.getInflateParent(), viewType);
+            }
+
+            @Override
+            public void onBindViewHolder(@NonNull PreferenceViewHolder holder, int position) {
+                super.onBindViewHolder(holder, position);
+                prefetchText(this, position + TEXT_PREFETCH_DISTANCE);
+                prefetchText(this, position - TEXT_PREFETCH_DISTANCE);
+            }
+        };
+        for (int i = 0; i < TEXT_PREFETCH_INITIAL; i++) {
+            prefetchText(adapter, i);
+        }
+        return adapter;
+    }
+
+    private static void prefetchText(PreferenceGroupAdapter adapter, int position) {
+        if (position < 0 || position >= adapter.getItemCount()) return;
+        if (adapter.getItem(position) instanceof MiuixPreference preference) preference.prefetchText();
+    }
+
     @Override
     @CallSuper
     public void onStart() {
@@ -38,6 +127,7 @@ public abstract class PreferenceFragmentCompat extends androidx.preference.Prefe
     @Override
     @CallSuper
     public void onResume() {
+        AuditHelper.setCurrentScreen(getClass().getName());
         AppBarHelper.callTargetRegister(getView());
         super.onResume();
     }
@@ -54,4 +144,11 @@ public abstract class PreferenceFragmentCompat extends androidx.preference.Prefe
         AppBarHelper.onDestroyView(getView());
         super.onDestroyView();
     }
+
+    @Override
+    @CallSuper
+    public void onDestroy() {
+        if (preInflateHelper != null) preInflateHelper.clear();
+        super.onDestroy();
+    }
 }
@@ -0,0 +1,286 @@
+/*
+ * This file is part of HiMiuix.
+ *
+ * HiMiuix is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * HiMiuix is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with HiMiuix. If not, see <https://www.gnu.org/licenses/lgpl-2.1>.
+ *
+ * Copyright (C) 2023–2025 HChenX
+ */
+package com.hchen.himiuix.helper;
+
+import android.content.Context;
+import android.content.pm.ApplicationInfo;
+import android.os.Looper;
+import android.util.Log;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * 内部开销审计帮助程序
+ * <p>
+ * 仅用于调试：记录库内部的反射查找、反射调用、SharedPreferences 读取，
+ * 以及 MiuixBasicView 的构建、测量、布局与刷新次数，
+ * 按页面汇总主线程耗时，并可在超出预算时抛出 AssertionError（可用于 Robolectric 测试）
+ *
+ * @author 焕晨HChen
+ */
+public class AuditHelper {
+    private static final String TAG = "HiMiuix:Audit";
+    private static final String SELF = AuditHelper.class.getName();
+    public static final int REFLECT_LOOKUP = 0;
+    public static final int REFLECT_INVOKE = 1;
+    public static final int PREFS_READ = 2;
+    public static final int VIEW_REFRESH = 3;
+    public static final int VIEW_INFLATE = 4;
+    public static final int VIEW_MEASURE = 5;
+    public static final int VIEW_LAYOUT = 6;
+    private static final String[] KIND_NAMES = {
+        "REFLECT_LOOKUP", "REFLECT_INVOKE", "PREFS_READ",
+        "VIEW_REFRESH", "VIEW_INFLATE", "VIEW_MEASURE", "VIEW_LAYOUT"
+    };
+    private static final int MAX_RECORDS = 1000;
+    private static final String UNKNOWN_SCREEN = "unknown";
+
+    private static volatile boolean isEnabled;
+    private static volatile String currentScreen = UNKNOWN_SCREEN;
+    private static long mainThreadBudgetNanos = -1;
+    private static final HashMap<String, ScreenSummary> summaries = new HashMap<>();
+    private static final ArrayDeque<Record> records = new ArrayDeque<>();
+
+    private AuditHelper() {
+    }
+
+    /**
+     * 启用或关闭审计，仅在可调试的应用中生效
+     */
+    public static void setEnabled(@NonNull Context context, boolean enabled) {
+        if (enabled && (context.getApplicationInfo().flags & ApplicationInfo.FLAG_DEBUGGABLE) == 0) {
+            Log.w(TAG, "Audit is only available in debuggable apps!");
+            return;
+        }
+        isEnabled = enabled;
+    }
+
+    public static boolean isEnabled() {
+        return isEnabled;
+    }
+
+    /**
+     * 设置当前页面，之后的记录将归入此页面
+     */
+    public static void setCurrentScreen(@Nullable String screen) {
+        currentScreen = screen == null ? UNKNOWN_SCREEN : screen;
+    }
+
+    /**
+     * 设置单个页面的主线程耗时预算，小于 0 表示不限制
+     */
+    public static void setMainThreadBudget(long budgetNanos) {
+        synchronized (summaries) {
+            mainThreadBudgetNanos = budgetNanos;
+        }
+    }
+
+    /**
+     * 开始一次记录，未启用时返回 0 且无开销
+     */
+    public static long begin() {
+        return isEnabled ? System.nanoTime() : 0;
+    }
+
+    /**
+     * 结束一次记录
+     */
+    public static void end(int kind, @NonNull String detail, long beginNanos) {
+        if (!isEnabled || beginNanos == 0) return;
+
+        long duration = System.nanoTime() - beginNanos;
+        boolean isMainThread = Looper.getMainLooper().isCurrentThread();
+        Record record = new Record(kind, detail, findCaller(), Thread.currentThread().getName(), currentScreen, duration);
+        synchronized (summaries) {
+            ScreenSummary summary = summaries.get(record.screen);
+            if (summary == null) {
+                summary = new ScreenSummary(record.screen);
+                summaries.put(record.screen, summary);
+            }
+            summary.add(kind, duration, isMainThread);
+
+            if (records.size() >= MAX_RECORDS) records.pollFirst();
+            records.addLast(record);
+        }
+    }
+
+    /**
+     * 若任一页面的主线程耗时超出预算则抛出 AssertionError
+     */
+    public static void assertWithinBudget() {
+        StringBuilder builder = new StringBuilder();
+        synchronized (summaries) {
+            if (mainThreadBudgetNanos < 0) return;
+            for (ScreenSummary summary : summaries.values()) {
+                if (summary.mainThreadNanos > mainThreadBudgetNanos)
+                    builder.append('\n').append(summary);
+            }
+        }
+        if (builder.length() > 0)
+            throw new AssertionError("[AuditHelper]: Main thread budget exceeded: " + builder);
+    }
+
+    @NonNull
+    public static Map<String, ScreenSummary> getSummaries() {
+        synchronized (summaries) {
+            HashMap<String, ScreenSummary> copy = new HashMap<>();
+            for (Map.Entry<String, ScreenSummary> entry : summaries.entrySet()) {
+                copy.put(entry.getKey(), entry.getValue().copy());
+            }
+            return copy;
+        }
+    }
+
+    @NonNull
+    public static List<Record> getRecords() {
+        synchronized (summaries) {
+            return new ArrayList<>(records);
+        }
+    }
+
+    public static void reset() {
+        synchronized (summaries) {
+            summaries.clear();
+            records.clear();
+        }
+    }
+
+    public static void dump() {
+        synchronized (summaries) {
+            for (ScreenSummary summary : summaries.values()) {
+                Log.i(TAG, summary.toString());
+            }
+        }
+    }
+
+    // 跳过库内部的反射封装，定位真正的调用方
+    private static String findCaller() {
+        StackTraceElement[] elements = Thread.currentThread().getStackTrace();
+        for (StackTraceElement element : elements) {
+            String clazz = element.getClassName();
+            if (clazz.startsWith("java.") || clazz.startsWith("dalvik.") ||
+                clazz.startsWith("com.hchen.himiuix.utils.") ||
+                clazz.equals(SELF) || clazz.startsWith(SELF + "$"))
+                continue;
+            return clazz + "." + element.getMethodName() + ":" + element.getLineNumber();
+        }
+        return "unknown";
+    }
+
+    public static String nameOf(int kind) {
+        return kind >= 0 && kind < KIND_NAMES.length ? KIND_NAMES[kind] : "UNKNOWN";
+    }
+
+    /**
+     * 单条审计记录
+     */
+    public static final class Record {
+        public final int kind;
+        public final String detail;
+        public final String caller;
+        public final String thread;
+        public final String screen;
+        public final long durationNanos;
+
+        private Record(int kind, String detail, String caller, String thread, String screen, long durationNanos) {
+            this.kind = kind;
+            this.detail = detail;
+            this.caller = caller;
+            this.thread = thread;
+            this.screen = screen;
+            this.durationNanos = durationNanos;
+        }
+
+        @NonNull
+        @Override
+        public String toString() {
+            return String.format(Locale.ROOT, "%s %s by %s on %s (%dus)",
+                nameOf(kind), detail, caller, thread, durationNanos / 1000);
+        }
+    }
+
+    /**
+     * 单个页面的汇总
+     */
+    public static final class ScreenSummary {
+        public final String screen;
+        private final int[] counts = new int[KIND_NAMES.length];
+        private final long[] mainThreadNanosByKind = new long[KIND_NAMES.length];
+        private long mainThreadNanos;
+        private long totalNanos;
+
+        private ScreenSummary(String screen) {
+            this.screen = screen;
+        }
+
+        private void add(int kind, long duration, boolean isMainThread) {
+            counts[kind]++;
+            totalNanos += duration;
+            if (isMainThread) {
+                mainThreadNanosByKind[kind] += duration;
+                mainThreadNanos += duration;
+            }
+        }
+
+        private ScreenSummary copy() {
+            ScreenSummary summary = new ScreenSummary(screen);
+            System.arraycopy(counts, 0, summary.counts, 0, counts.length);
+            System.arraycopy(mainThreadNanosByKind, 0, summary.mainThreadNanosByKind, 0, mainThreadNanosByKind.length);
+            summary.mainThreadNanos = mainThreadNanos;
+            summary.totalNanos = totalNanos;
+            return summary;
+        }
+
+        public int getCount(int kind) {
+            return counts[kind];
+        }
+
+        public long getMainThreadNanos(int kind) {
+            return mainThreadNanosByKind[kind];
+        }
+
+        public long getMainThreadNanos() {
+            return mainThreadNanos;
+        }
+
+        public long getTotalNanos() {
+            return totalNanos;
+        }
+
+        @NonNull
+        @Override
+        public String toString() {
+            StringBuilder builder = new StringBuilder(screen).append(": main=")
+                .append(mainThreadNanos / 1000).append("us total=").append(totalNanos / 1000).append("us");
+            for (int i = 0; i < counts.length; i++) {
+                builder.append(' ').append(KIND_NAMES[i]).append('=').append(counts[i])
+                    .append('/').append(mainThreadNanosByKind[i] / 1000).append("us");
+            }
+            return builder.toString();
+        }
+    }
+}
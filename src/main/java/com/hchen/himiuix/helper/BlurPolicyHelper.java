@@ -0,0 +1,182 @@
+/*
+ * This file is part of HiMiuix.
+ *
+ * HiMiuix is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * HiMiuix is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with HiMiuix. If not, see <https://www.gnu.org/licenses/lgpl-2.1>.
+ *
+ * Copyright (C) 2023–2025 HChenX
+ */
+package com.hchen.himiuix.helper;
+
+import android.app.ActivityManager;
+import android.content.Context;
+import android.graphics.Color;
+import android.os.Build;
+import android.os.PowerManager;
+import android.view.Display;
+
+import androidx.annotation.NonNull;
+
+import com.hchen.himiuix.callback.OnBlurLevelChangedListener;
+import com.hchen.himiuix.utils.MiuiSuperBlur;
+import com.hchen.himiuix.utils.MiuixUtils;
+
+import java.util.HashSet;
+
+/**
+ * 模糊策略帮助程序
+ * <p>
+ * 根据设备性能等级、内存、刷新率以及当前的省电与温控状态，自动降级模糊效果
+ *
+ * @author 焕晨HChen
+ */
+public class BlurPolicyHelper {
+    private static final String TAG = "HiMiuix:BlurPolicy";
+    public static final int BLUR_LEVEL_AUTO = -1; // 仅用于覆盖，表示交由策略决定
+    public static final int BLUR_LEVEL_FULL = 0; // 完整模糊
+    public static final int BLUR_LEVEL_REDUCED = 1; // 降低模糊半径
+    public static final int BLUR_LEVEL_SCRIM = 2; // 静态半透明遮罩
+    public static final int BLUR_LEVEL_OFF = 3; // 关闭模糊，使用不透明背景
+
+    private static final int BLUR_RADIUS_FULL = 66; // dp
+    private static final int BLUR_RADIUS_REDUCED = 33; // dp
+    private static final int SCRIM_ALPHA = 0xE6;
+    private static final long LOW_RAM_THRESHOLD = 4L * 1024 * 1024 * 1024;
+    private static final long HIGH_RAM_THRESHOLD = 8L * 1024 * 1024 * 1024;
+    private static final float HIGH_REFRESH_RATE = 90f;
+
+    private static final HashSet<OnBlurLevelChangedListener> listeners = new HashSet<>();
+    private static PowerManager powerManager;
+    private static int deviceLevel = BLUR_LEVEL_AUTO; // 设备静态等级，仅计算一次
+    private static int overrideLevel = BLUR_LEVEL_AUTO;
+    private static int lastLevel = BLUR_LEVEL_AUTO;
+    private static final PowerManager.OnThermalStatusChangedListener thermalListener = status -> dispatchIfChanged();
+
+    private BlurPolicyHelper() {
+    }
+
+    public static void addListener(@NonNull Context context, @NonNull OnBlurLevelChangedListener listener) {
+        ensureDeviceLevel(context);
+        if (listeners.isEmpty() && powerManager != null)
+            powerManager.addThermalStatusListener(thermalListener);
+        listeners.add(listener);
+    }
+
+    public static void removeListener(@NonNull OnBlurLevelChangedListener listener) {
+        listeners.remove(listener);
+        if (listeners.isEmpty() && powerManager != null)
+            powerManager.removeThermalStatusListener(thermalListener);
+    }
+
+    /**
+     * 由应用强制指定模糊等级，传入 {@link #BLUR_LEVEL_AUTO} 以恢复自动策略
+     */
+    public static void setOverrideLevel(int level) {
+        if (overrideLevel == level) return;
+        overrideLevel = level;
+        dispatchIfChanged();
+    }
+
+    public static int getOverrideLevel() {
+        return overrideLevel;
+    }
+
+    /**
+     * 重新评估当前模糊等级，例如省电模式切换后由应用主动调用
+     */
+    public static void reevaluate() {
+        dispatchIfChanged();
+    }
+
+    /**
+     * 获取当前应使用的模糊等级
+     */
+    public static int getBlurLevel(@NonNull Context context) {
+        ensureDeviceLevel(context);
+        return computeLevel();
+    }
+
+    /**
+     * 获取指定等级下的模糊半径 (px)
+     */
+    public static int getBlurRadius(@NonNull Context context, int level) {
+        return MiuixUtils.dp2px(context, level == BLUR_LEVEL_REDUCED ? BLUR_RADIUS_REDUCED : BLUR_RADIUS_FULL);
+    }
+
+    /**
+     * 获取静态遮罩颜色
+     */
+    public static int getScrimColor(int color) {
+        return Color.argb(SCRIM_ALPHA, Color.red(color), Color.green(color), Color.blue(color));
+    }
+
+    private static int computeLevel() {
+        if (!MiuiSuperBlur.isSupportBlur()) return BLUR_LEVEL_OFF;
+        if (overrideLevel != BLUR_LEVEL_AUTO) return overrideLevel;
+
+        int level = deviceLevel;
+        if (powerManager != null) {
+            if (powerManager.isPowerSaveMode())
+                level = Math.max(level, BLUR_LEVEL_SCRIM);
+
+            switch (powerManager.getCurrentThermalStatus()) {
+                case PowerManager.THERMAL_STATUS_MODERATE -> level = Math.max(level, BLUR_LEVEL_REDUCED);
+                case PowerManager.THERMAL_STATUS_SEVERE -> level = Math.max(level, BLUR_LEVEL_SCRIM);
+                case PowerManager.THERMAL_STATUS_CRITICAL,
+                     PowerManager.THERMAL_STATUS_EMERGENCY,
+                     PowerManager.THERMAL_STATUS_SHUTDOWN -> level = BLUR_LEVEL_OFF;
+            }
+        }
+        return level;
+    }
+
+    private static void dispatchIfChanged() {
+        if (deviceLevel == BLUR_LEVEL_AUTO) return;
+
+        int level = computeLevel();
+        if (level == lastLevel) return;
+        lastLevel = level;
+        for (OnBlurLevelChangedListener listener : new HashSet<>(listeners)) {
+            listener.blurLevelChanged(level);
+        }
+    }
+
+    // 设备性能等级、内存与刷新率在进程生命周期内不会变化
+    private static void ensureDeviceLevel(@NonNull Context context) {
+        if (deviceLevel != BLUR_LEVEL_AUTO) return;
+
+        Context appContext = context.getApplicationContext() != null ? context.getApplicationContext() : context;
+        powerManager = (PowerManager) appContext.getSystemService(Context.POWER_SERVICE);
+        ActivityManager activityManager = (ActivityManager) appContext.getSystemService(Context.ACTIVITY_SERVICE);
+        ActivityManager.MemoryInfo memoryInfo = new ActivityManager.MemoryInfo();
+        activityManager.getMemoryInfo(memoryInfo);
+
+        int performanceClass = Build.VERSION.SDK_INT >= Build.VERSION_CODES.S ? Build.VERSION.MEDIA_PERFORMANCE_CLASS : 0;
+        Display display = MiuixUtils.getDisplay(context);
+        float refreshRate = display != null ? display.getRefreshRate() : 60f;
+
+        int level;
+        if (activityManager.isLowRamDevice() || memoryInfo.totalMem < LOW_RAM_THRESHOLD)
+            level = BLUR_LEVEL_SCRIM;
+        else if (performanceClass >= Build.VERSION_CODES.S || memoryInfo.totalMem >= HIGH_RAM_THRESHOLD)
+            level = BLUR_LEVEL_FULL;
+        else level = BLUR_LEVEL_REDUCED;
+
+        // 高刷新率下每帧的模糊开销占比更高
+        if (level == BLUR_LEVEL_REDUCED && refreshRate > HIGH_REFRESH_RATE)
+            level = BLUR_LEVEL_SCRIM;
+
+        deviceLevel = level;
+        lastLevel = computeLevel();
+    }
+}
@@ -113,11 +113,36 @@ public class HapticFeedbackHelper {
     }
 
     public static void performHapticFeedback(@NonNull View view, int flag) {
-        if (MiuixUtils.isXiaomi()) {
-            if (!PropUtils.getProp("sys.haptic.version", "").isEmpty())
-                view.performHapticFeedback(flag);
-            else view.performHapticFeedback(HapticFeedbackConstants.CONTEXT_CLICK);
-        } else view.performHapticFeedback(HapticFeedbackConstants.CONTEXT_CLICK);
+        view.performHapticFeedback(HapticProfile.INSTANCE.resolve(flag));
+    }
+
+    /**
+     * 当前设备是否支持 Miui 振动效果
+     */
+    public static boolean isMiuiHapticSupported() {
+        return HapticProfile.INSTANCE.isMiuiHapticSupported;
+    }
+
+    /**
+     * 进程内只解析一次的振动能力，将每个效果映射为最终调用的常量
+     */
+    private static final class HapticProfile {
+        private static final HapticProfile INSTANCE = new HapticProfile();
+        private final boolean isMiuiHapticSupported;
+        private final int[] resolvedMiuiFlags = new int[MIUI_HAPTIC_END - MIUI_HAPTIC_START];
+
+        private HapticProfile() {
+            isMiuiHapticSupported = MiuixUtils.isXiaomi() && !PropUtils.getCachedProp("sys.haptic.version", "").isEmpty();
+            for (int i = 0; i < resolvedMiuiFlags.length; i++) {
+                resolvedMiuiFlags[i] = isMiuiHapticSupported ? MIUI_HAPTIC_START + i : HapticFeedbackConstants.CONTEXT_CLICK;
+            }
+        }
+
+        private int resolve(int flag) {
+            if (flag >= MIUI_HAPTIC_START && flag < MIUI_HAPTIC_END)
+                return resolvedMiuiFlags[flag - MIUI_HAPTIC_START];
+            return isMiuiHapticSupported ? flag : HapticFeedbackConstants.CONTEXT_CLICK;
+        }
     }
 
     public static String nameOf(int i) {
@@ -0,0 +1,126 @@
+/*
+ * This file is part of HiMiuix.
+ *
+ * HiMiuix is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * HiMiuix is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with HiMiuix. If not, see <https://www.gnu.org/licenses/lgpl-2.1>.
+ *
+ * Copyright (C) 2023–2025 HChenX
+ */
+package com.hchen.himiuix.helper;
+
+import android.os.SystemClock;
+import android.view.View;
+
+import androidx.annotation.NonNull;
+
+/**
+ * 振动调度程序
+ * <p>
+ * 按效果类型独立限频：窗口内只执行第一次请求，其余重复请求直接丢弃，
+ * 嵌套的 SpringBackLayout 在同一手势中触边时只振动一次，也不会在手指抬起后补发；
+ * 不同类型之间互不影响，轻微的点按不会压制随后更强的效果
+ * <p>
+ * 仅可在主线程使用
+ *
+ * @author 焕晨HChen
+ */
+public class HapticScheduler {
+    private static final String TAG = "HiMiuix:HapticScheduler";
+    private static final long DEFAULT_INTERVAL = 50; // ms
+    private static final int OTHER_SLOT = HapticFeedbackHelper.MIUI_HAPTIC_END - HapticFeedbackHelper.MIUI_HAPTIC_START;
+    private static HapticScheduler scheduler;
+
+    private final Clock clock;
+    private final Performer performer;
+    private final long[] minIntervals = new long[OTHER_SLOT + 1];
+    private final long[] lastPerformTimes = new long[OTHER_SLOT + 1];
+
+    /**
+     * 时间来源，便于在 JVM 测试中注入
+     */
+    public interface Clock {
+        long uptimeMillis();
+    }
+
+    /**
+     * 实际执行振动
+     */
+    public interface Performer {
+        void perform(@NonNull View view, int flag);
+    }
+
+    public HapticScheduler(@NonNull Clock clock, @NonNull Performer performer) {
+        this.clock = clock;
+        this.performer = performer;
+        for (int i = 0; i < minIntervals.length; i++) {
+            minIntervals[i] = DEFAULT_INTERVAL;
+            lastPerformTimes[i] = Long.MIN_VALUE;
+        }
+        setMinInterval(HapticFeedbackHelper.MIUI_TAP_NORMAL, 30);
+        setMinInterval(HapticFeedbackHelper.MIUI_TAP_LIGHT, 30);
+        setMinInterval(HapticFeedbackHelper.MIUI_HOLD, 100);
+        setMinInterval(HapticFeedbackHelper.MIUI_SCROLL_EDGE, 300);
+    }
+
+    public static HapticScheduler getDefault() {
+        if (scheduler == null)
+            scheduler = new HapticScheduler(SystemClock::uptimeMillis, HapticFeedbackHelper::performHapticFeedback);
+        return scheduler;
+    }
+
+    /**
+     * 通过默认调度程序请求振动
+     */
+    public static void perform(@NonNull View view, int flag) {
+        getDefault().request(view, flag);
+    }
+
+    /**
+     * 设置指定效果的最小间隔 (ms)
+     */
+    public void setMinInterval(int flag, long interval) {
+        minIntervals[slotOf(flag)] = interval;
+    }
+
+    /**
+     * 请求振动，窗口外立即执行并开始新的窗口，窗口内的请求被丢弃
+     *
+     * @return 是否执行了振动
+     */
+    public boolean request(@NonNull View view, int flag) {
+        long now = clock.uptimeMillis();
+        int slot = slotOf(flag);
+
+        long last = lastPerformTimes[slot];
+        if (last != Long.MIN_VALUE && now - last < minIntervals[slot]) return false;
+
+        lastPerformTimes[slot] = now;
+        performer.perform(view, flag);
+        return true;
+    }
+
+    /**
+     * 清空限流状态
+     */
+    public void reset() {
+        for (int i = 0; i < lastPerformTimes.length; i++) {
+            lastPerformTimes[i] = Long.MIN_VALUE;
+        }
+    }
+
+    private static int slotOf(int flag) {
+        if (flag >= HapticFeedbackHelper.MIUI_HAPTIC_START && flag < HapticFeedbackHelper.MIUI_HAPTIC_END)
+            return flag - HapticFeedbackHelper.MIUI_HAPTIC_START;
+        return OTHER_SLOT;
+    }
+}
@@ -0,0 +1,297 @@
+/*
+ * This file is part of HiMiuix.
+ *
+ * HiMiuix is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * HiMiuix is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with HiMiuix. If not, see <https://www.gnu.org/licenses/lgpl-2.1>.
+ *
+ * Copyright (C) 2023–2025 HChenX
+ */
+package com.hchen.himiuix.helper;
+
+import android.content.Context;
+import android.content.pm.PackageManager;
+import android.content.res.Configuration;
+import android.graphics.Bitmap;
+import android.graphics.Canvas;
+import android.graphics.ImageDecoder;
+import android.graphics.drawable.BitmapDrawable;
+import android.graphics.drawable.Drawable;
+import android.net.Uri;
+import android.os.Handler;
+import android.os.Looper;
+import android.os.Process;
+import android.util.Log;
+import android.util.LruCache;
+
+import androidx.annotation.DrawableRes;
+import androidx.annotation.MainThread;
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.annotation.WorkerThread;
+import androidx.core.content.ContextCompat;
+
+import com.hchen.himiuix.callback.OnIconLoadedListener;
+
+import java.io.IOException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * 异步图标加载
+ * <p>
+ * 在后台线程解码并缩放到显示尺寸，结果按来源、尺寸与配置缓存在内存 LRU 中；行视图被复用时可取消未完成的请求
+ *
+ * @author 焕晨HChen
+ */
+public class IconLoaderHelper {
+    private static final String TAG = "HiMiuix:IconLoader";
+    // 缓存上限为可用内存的 1/16
+    private static final LruCache<String, Bitmap> cache = new LruCache<>((int) Math.min(Integer.MAX_VALUE, Runtime.getRuntime().maxMemory() / 16)) {
+        @Override
+        protected int sizeOf(String key, Bitmap value) {
+            return value.getAllocationByteCount();
+        }
+    };
+    private static final Handler handler = new Handler(Looper.getMainLooper());
+    private static final ExecutorService executor = Executors.newFixedThreadPool(2, runnable -> {
+        Thread thread = new Thread(() -> {
+            Process.setThreadPriority(Process.THREAD_PRIORITY_BACKGROUND);
+            runnable.run();
+        }, "HiMiuix-IconLoader");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private IconLoaderHelper() {
+    }
+
+    /**
+     * 获取已缓存的图标，不存在时返回 null
+     */
+    @Nullable
+    public static Drawable getCached(@NonNull Context context, @NonNull Source source, int size) {
+        Bitmap bitmap = cache.get(source.getKey(context, size));
+        return bitmap != null ? new BitmapDrawable(context.getResources(), bitmap) : null;
+    }
+
+    /**
+     * 加载图标，命中缓存时直接在当前线程回调
+     *
+     * @param size 显示尺寸，单位 px，解码结果的长边不会超过该值
+     * @return 未命中缓存时返回可取消的请求，否则返回 null
+     */
+    @Nullable
+    @MainThread
+    public static Request load(@NonNull Context context, @NonNull Source source, int size, @NonNull OnIconLoadedListener listener) {
+        Drawable cached = getCached(context, source, size);
+        if (cached != null) {
+            listener.onIconLoaded(cached);
+            return null;
+        }
+
+        Request request = new Request();
+        request.future = executor.submit(() -> {
+            if (request.isCanceled) return;
+
+            String key = source.getKey(context, size);
+            Bitmap bitmap = cache.get(key);
+            if (bitmap == null) {
+                try {
+                    bitmap = source.decode(context, size);
+                } catch (Exception e) {
+                    Log.w(TAG, "Failed to load icon: " + key, e);
+                }
+                if (bitmap != null) cache.put(key, bitmap);
+            }
+
+            Bitmap result = bitmap;
+            handler.post(() -> {
+                if (request.isCanceled) return;
+                listener.onIconLoaded(result != null ? new BitmapDrawable(context.getResources(), result) : null);
+            });
+        });
+        return request;
+    }
+
+    public static void clear() {
+        cache.evictAll();
+    }
+
+    @NonNull
+    public static Source ofResource(@DrawableRes int id) {
+        return new ResourceSource(id);
+    }
+
+    @NonNull
+    public static Source ofPackage(@NonNull String packageName) {
+        return new PackageSource(packageName);
+    }
+
+    @NonNull
+    public static Source ofUri(@NonNull Uri uri) {
+        return new UriSource(uri);
+    }
+
+    // 将 Drawable 按比例绘制到长边为 size 的位图
+    // 矢量等可缩放的 Drawable 直接按显示尺寸绘制，位图只缩小不放大
+    @NonNull
+    @WorkerThread
+    private static Bitmap rasterize(@NonNull Drawable drawable, int size) {
+        int w = drawable.getIntrinsicWidth();
+        int h = drawable.getIntrinsicHeight();
+        if (w <= 0 || h <= 0) w = h = size;
+        float scale = (float) size / Math.max(w, h);
+        if (drawable instanceof BitmapDrawable) scale = Math.min(1f, scale);
+        int width = Math.max(1, Math.round(w * scale));
+        int height = Math.max(1, Math.round(h * scale));
+
+        Bitmap bitmap = Bitmap.createBitmap(width, height, Bitmap.Config.ARGB_8888);
+        drawable.setBounds(0, 0, width, height);
+        drawable.draw(new Canvas(bitmap));
+        return bitmap;
+    }
+
+    /**
+     * 可取消的加载请求
+     */
+    public static final class Request {
+        private volatile boolean isCanceled;
+        private Future<?> future;
+
+        private Request() {
+        }
+
+        @MainThread
+        public void cancel() {
+            isCanceled = true;
+            if (future != null) future.cancel(false);
+        }
+
+        public boolean isCanceled() {
+            return isCanceled;
+        }
+    }
+
+    /**
+     * 图标来源
+     */
+    public abstract static class Source {
+        @NonNull
+        abstract String getId();
+
+        @Nullable
+        @WorkerThread
+        abstract Bitmap decode(@NonNull Context context, int size) throws IOException, PackageManager.NameNotFoundException;
+
+        // 结果是否随主题与配置变化，例如夜间模式下的着色图标或不同密度下的资源
+        boolean dependsOnConfiguration() {
+            return true;
+        }
+
+        @NonNull
+        final String getKey(@NonNull Context context, int size) {
+            if (!dependsOnConfiguration()) return getId() + '@' + size;
+
+            Configuration configuration = context.getResources().getConfiguration();
+            return getId() + '@' + size + '#' + configuration.uiMode + ':' + configuration.densityDpi;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof Source source)) return false;
+            return getId().equals(source.getId());
+        }
+
+        @Override
+        public int hashCode() {
+            return getId().hashCode();
+        }
+    }
+
+    private static final class ResourceSource extends Source {
+        private final int id;
+
+        private ResourceSource(int id) {
+            this.id = id;
+        }
+
+        @NonNull
+        @Override
+        String getId() {
+            return "res:" + id;
+        }
+
+        @Nullable
+        @Override
+        Bitmap decode(@NonNull Context context, int size) {
+            Drawable drawable = ContextCompat.getDrawable(context, id);
+            return drawable != null ? rasterize(drawable, size) : null;
+        }
+    }
+
+    private static final class PackageSource extends Source {
+        private final String packageName;
+
+        private PackageSource(String packageName) {
+            this.packageName = packageName;
+        }
+
+        @NonNull
+        @Override
+        String getId() {
+            return "pkg:" + packageName;
+        }
+
+        @NonNull
+        @Override
+        Bitmap decode(@NonNull Context context, int size) throws PackageManager.NameNotFoundException {
+            return rasterize(context.getPackageManager().getApplicationIcon(packageName), size);
+        }
+    }
+
+    private static final class UriSource extends Source {
+        private final Uri uri;
+
+        private UriSource(Uri uri) {
+            this.uri = uri;
+        }
+
+        @NonNull
+        @Override
+        String getId() {
+            return "uri:" + uri;
+        }
+
+        @Override
+        boolean dependsOnConfiguration() {
+            return false;
+        }
+
+        // 由解码器按显示尺寸采样，避免先解码原图
+        @NonNull
+        @Override
+        Bitmap decode(@NonNull Context context, int size) throws IOException {
+            ImageDecoder.Source source = ImageDecoder.createSource(context.getContentResolver(), uri);
+            return ImageDecoder.decodeBitmap(source, (decoder, info, src) -> {
+                int w = info.getSize().getWidth();
+                int h = info.getSize().getHeight();
+                if (Math.max(w, h) > size) {
+                    float scale = (float) size / Math.max(w, h);
+                    decoder.setTargetSize(Math.max(1, Math.round(w * scale)), Math.max(1, Math.round(h * scale)));
+                }
+            });
+        }
+    }
+}
@@ -0,0 +1,229 @@
+/*
+ * This file is part of HiMiuix.
+ *
+ * HiMiuix is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * HiMiuix is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with HiMiuix. If not, see <https://www.gnu.org/licenses/lgpl-2.1>.
+ *
+ * Copyright (C) 2023–2025 HChenX
+ */
+package com.hchen.himiuix.helper;
+
+import android.content.Context;
+import android.content.ContextWrapper;
+import android.os.Looper;
+import android.os.MessageQueue;
+import android.util.SparseArray;
+import android.util.SparseIntArray;
+import android.view.LayoutInflater;
+import android.view.View;
+import android.view.ViewGroup;
+import android.widget.FrameLayout;
+
+import androidx.annotation.LayoutRes;
+import androidx.annotation.MainThread;
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import java.util.ArrayDeque;
+
+/**
+ * 预加载布局池
+ * <p>
+ * 在主线程空闲时提前加载指定数量的布局，创建视图时直接取用，并统计命中与未命中次数；
+ * 每个页面持有自己的实例，池与统计互不影响
+ *
+ * @author 焕晨HChen
+ */
+@MainThread
+public class PreInflateHelper {
+    private final Context context;
+    // 仅用于生成布局参数，不会添加子视图
+    private final ViewGroup parent;
+    private final SparseArray<ArrayDeque<View>> views = new SparseArray<>();
+    private final SparseIntArray capacities = new SparseIntArray();
+    private final ArrayDeque<Integer> requests = new ArrayDeque<>();
+    private ViewGroup inflateParent;
+    private boolean isIdleScheduled;
+    private int hitCount;
+    private int missCount;
+
+    // 每次空闲只加载一个布局，避免阻塞后续消息
+    private final MessageQueue.IdleHandler idleHandler = () -> {
+        inflateNext();
+        if (requests.isEmpty()) {
+            isIdleScheduled = false;
+            return false;
+        }
+        return true;
+    };
+
+    public PreInflateHelper(@NonNull Context context) {
+        this.context = context;
+        parent = new FrameLayout(context);
+    }
+
+    @NonNull
+    public Context getContext() {
+        return context;
+    }
+
+    /**
+     * 在主线程空闲时预加载布局，池中数量达到 count 后停止
+     */
+    public void prefill(@LayoutRes int layout, int count) {
+        if (count <= 0) return;
+
+        capacities.put(layout, Math.max(count, capacities.get(layout, 0)));
+        if (!requests.contains(layout)) requests.addLast(layout);
+        if (!isIdleScheduled) {
+            isIdleScheduled = true;
+            Looper.getMainLooper().getQueue().addIdleHandler(idleHandler);
+        }
+    }
+
+    /**
+     * 从池中取出布局，不存在时返回 null；未预加载的布局不计入统计
+     */
+    @Nullable
+    public View obtain(@LayoutRes int layout) {
+        if (capacities.get(layout, 0) == 0) return null;
+
+        ArrayDeque<View> deque = views.get(layout);
+        View view = deque != null ? deque.pollFirst() : null;
+        if (view != null) hitCount++;
+        else missCount++;
+        return view;
+    }
+
+    /**
+     * 从池中取出布局，未命中时同步加载
+     */
+    @NonNull
+    public View inflate(@NonNull ViewGroup parent, @LayoutRes int layout) {
+        View view = obtain(layout);
+        if (view != null) return view;
+        return LayoutInflater.from(parent.getContext()).inflate(layout, parent, false);
+    }
+
+    /**
+     * 返回仅用于创建视图的父布局
+     * <p>
+     * 通过 LayoutInflater.from(parent.getContext()) 以 attachToRoot = false 加载已预加载的布局时优先从池中取用，
+     * 因此可以直接传给 RecyclerView.Adapter#onCreateViewHolder 等标准创建流程；加载出的视图仍使用原始 Context
+     */
+    @NonNull
+    public ViewGroup getInflateParent() {
+        if (inflateParent == null)
+            inflateParent = new FrameLayout(new PoolContext(context));
+        return inflateParent;
+    }
+
+    /**
+     * 移除全部预加载布局与请求，应在页面销毁时调用
+     */
+    public void clear() {
+        if (isIdleScheduled) {
+            Looper.getMainLooper().getQueue().removeIdleHandler(idleHandler);
+            isIdleScheduled = false;
+        }
+        requests.clear();
+        views.clear();
+        capacities.clear();
+    }
+
+    public int getHitCount() {
+        return hitCount;
+    }
+
+    public int getMissCount() {
+        return missCount;
+    }
+
+    // 命中率，无记录时为 0
+    public float getHitRate() {
+        int total = hitCount + missCount;
+        return total == 0 ? 0 : (float) hitCount / total;
+    }
+
+    public int getPooledCount(@LayoutRes int layout) {
+        ArrayDeque<View> deque = views.get(layout);
+        return deque != null ? deque.size() : 0;
+    }
+
+    public void resetStats() {
+        hitCount = 0;
+        missCount = 0;
+    }
+
+    private void inflateNext() {
+        while (!requests.isEmpty()) {
+            int layout = requests.peekFirst();
+            if (isFull(layout)) {
+                requests.pollFirst();
+                continue;
+            }
+
+            ArrayDeque<View> deque = views.get(layout);
+            if (deque == null) {
+                deque = new ArrayDeque<>();
+                views.put(layout, deque);
+            }
+            deque.addLast(LayoutInflater.from(context).inflate(layout, parent, false));
+            if (isFull(layout)) requests.pollFirst();
+            return;
+        }
+    }
+
+    private boolean isFull(int layout) {
+        return getPooledCount(layout) >= capacities.get(layout, 0);
+    }
+
+    // 向 LayoutInflater.from 提供取用预加载池的 LayoutInflater
+    private final class PoolContext extends ContextWrapper {
+        private LayoutInflater inflater;
+
+        private PoolContext(Context base) {
+            super(base);
+        }
+
+        @Override
+        public Object getSystemService(String name) {
+            if (LAYOUT_INFLATER_SERVICE.equals(name)) {
+                if (inflater == null)
+                    inflater = new PoolInflater(LayoutInflater.from(getBaseContext()));
+                return inflater;
+            }
+            return super.getSystemService(name);
+        }
+    }
+
+    private final class PoolInflater extends LayoutInflater {
+        private PoolInflater(LayoutInflater original) {
+            super(original, original.getContext());
+        }
+
+        @Override
+        public LayoutInflater cloneInContext(Context newContext) {
+            return LayoutInflater.from(context).cloneInContext(newContext);
+        }
+
+        @Override
+        public View inflate(int resource, @Nullable ViewGroup root, boolean attachToRoot) {
+            if (!attachToRoot) {
+                View view = obtain(resource);
+                if (view != null) return view;
+            }
+            return super.inflate(resource, root, attachToRoot);
+        }
+    }
+}
@@ -0,0 +1,164 @@
+/*
+ * This file is part of HiMiuix.
+ *
+ * HiMiuix is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * HiMiuix is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with HiMiuix. If not, see <https://www.gnu.org/licenses/lgpl-2.1>.
+ *
+ * Copyright (C) 2023–2025 HChenX
+ */
+package com.hchen.himiuix.helper;
+
+import android.content.Context;
+import android.content.res.Configuration;
+import android.os.Process;
+import android.text.PrecomputedText;
+import android.text.TextUtils;
+import android.util.LruCache;
+import android.util.SparseArray;
+import android.widget.TextView;
+
+import androidx.annotation.MainThread;
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.annotation.StyleRes;
+import androidx.core.text.PrecomputedTextCompat;
+import androidx.core.widget.TextViewCompat;
+
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * 预计算文本
+ * <p>
+ * 在后台线程预先计算标题与摘要的文本度量，绑定时直接应用；缓存未命中时退回同步排版
+ *
+ * @author 焕晨HChen
+ */
+public class PrecomputedTextHelper {
+    private static final int MAX_CACHE_SIZE = 256;
+    private static final LruCache<TextKey, PrecomputedTextCompat> cache = new LruCache<>(MAX_CACHE_SIZE);
+    private static final Set<TextKey> pending = ConcurrentHashMap.newKeySet();
+    private static final SparseArray<PrecomputedTextCompat.Params> styleParams = new SparseArray<>();
+    private static final ExecutorService executor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(() -> {
+            Process.setThreadPriority(Process.THREAD_PRIORITY_BACKGROUND);
+            runnable.run();
+        }, "HiMiuix-PrecomputedText");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private static int densityDpi;
+    private static float fontScale;
+
+    private PrecomputedTextHelper() {
+    }
+
+    // 获取样式对应的文本度量参数
+    // 字体缩放或密度变化后重新计算
+    @NonNull
+    @MainThread
+    public static PrecomputedTextCompat.Params getParams(@NonNull Context context, @StyleRes int style) {
+        Configuration configuration = context.getResources().getConfiguration();
+        if (configuration.densityDpi != densityDpi || configuration.fontScale != fontScale) {
+            densityDpi = configuration.densityDpi;
+            fontScale = configuration.fontScale;
+            styleParams.clear();
+        }
+
+        PrecomputedTextCompat.Params params = styleParams.get(style);
+        if (params == null) {
+            params = TextViewCompat.getTextMetricsParams(new TextView(context, null, 0, style));
+            styleParams.put(style, params);
+        }
+        return params;
+    }
+
+    // 按样式预计算文本
+    @MainThread
+    public static void prefetch(@NonNull Context context, @StyleRes int style, @Nullable CharSequence text) {
+        prefetch(getParams(context, style), text);
+    }
+
+    // 按 TextView 当前的度量参数预计算文本
+    @MainThread
+    public static void prefetch(@NonNull TextView textView, @Nullable CharSequence text) {
+        prefetch(TextViewCompat.getTextMetricsParams(textView), text);
+    }
+
+    public static void prefetch(@NonNull PrecomputedTextCompat.Params params, @Nullable CharSequence text) {
+        if (TextUtils.isEmpty(text) || text instanceof PrecomputedTextCompat) return;
+
+        TextKey key = new TextKey(text, params);
+        if (cache.get(key) != null || !pending.add(key)) return;
+        executor.execute(() -> {
+            try {
+                cache.put(key, PrecomputedTextCompat.create(text, params));
+            } finally {
+                pending.remove(key);
+            }
+        });
+    }
+
+    // 获取已预计算的文本，不存在时返回 null
+    @Nullable
+    public static PrecomputedTextCompat get(@Nullable CharSequence text, @NonNull PrecomputedTextCompat.Params params) {
+        if (TextUtils.isEmpty(text)) return null;
+        return cache.get(new TextKey(text, params));
+    }
+
+    // 设置文本
+    // 命中缓存时直接应用预计算结果，否则退回同步排版
+    @MainThread
+    public static void setText(@NonNull TextView textView, @Nullable CharSequence text) {
+        CharSequence current = textView.getText();
+        if (current == text) return;
+        if (current instanceof PrecomputedTextCompat || current instanceof PrecomputedText) {
+            if (text != null && TextUtils.equals(current.toString(), text)) return;
+        } else if (Objects.equals(current, text)) return;
+
+        PrecomputedTextCompat precomputed = get(text, TextViewCompat.getTextMetricsParams(textView));
+        if (precomputed != null) TextViewCompat.setPrecomputedText(textView, precomputed);
+        else textView.setText(text);
+    }
+
+    public static void clear() {
+        cache.evictAll();
+    }
+
+    private static final class TextKey {
+        private final CharSequence text;
+        private final PrecomputedTextCompat.Params params;
+        private final int hash;
+
+        private TextKey(@NonNull CharSequence text, @NonNull PrecomputedTextCompat.Params params) {
+            this.text = text;
+            this.params = params;
+            this.hash = 31 * text.hashCode() + params.hashCode();
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof TextKey key)) return false;
+            return hash == key.hash && Objects.equals(text, key.text) && params.equals(key.params);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+}
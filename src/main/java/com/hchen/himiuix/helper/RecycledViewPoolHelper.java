@@ -0,0 +1,125 @@
+/*
+ * This file is part of HiMiuix.
+ *
+ * HiMiuix is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * HiMiuix is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with HiMiuix. If not, see <https://www.gnu.org/licenses/lgpl-2.1>.
+ *
+ * Copyright (C) 2023–2025 HChenX
+ */
+package com.hchen.himiuix.helper;
+
+import android.app.Activity;
+import android.app.Application;
+import android.content.Context;
+import android.content.ContextWrapper;
+import android.os.Bundle;
+
+import androidx.annotation.MainThread;
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.recyclerview.widget.RecyclerView;
+
+import java.util.HashMap;
+
+/**
+ * 共享 RecyclerView 复用池
+ * <p>
+ * 同一窗口内的列表卡片与对话框共用一个 RecycledViewPool，行视图可跨列表复用；Activity 销毁时自动释放
+ *
+ * @author 焕晨HChen
+ */
+@MainThread
+public class RecycledViewPoolHelper {
+    private static final int MAX_RECYCLED_VIEWS = 20;
+    private static final HashMap<Activity, RecyclerView.RecycledViewPool> pools = new HashMap<>();
+    private static boolean isEnabled;
+    private static final Application.ActivityLifecycleCallbacks callbacks = new Application.ActivityLifecycleCallbacks() {
+        @Override
+        public void onActivityCreated(@NonNull Activity activity, @Nullable Bundle savedInstanceState) {
+        }
+
+        @Override
+        public void onActivityDestroyed(@NonNull Activity activity) {
+            clear(activity);
+        }
+
+        @Override
+        public void onActivityPaused(@NonNull Activity activity) {
+        }
+
+        @Override
+        public void onActivityResumed(@NonNull Activity activity) {
+        }
+
+        @Override
+        public void onActivitySaveInstanceState(@NonNull Activity activity, @NonNull Bundle outState) {
+        }
+
+        @Override
+        public void onActivityStarted(@NonNull Activity activity) {
+        }
+
+        @Override
+        public void onActivityStopped(@NonNull Activity activity) {
+        }
+    };
+
+    private RecycledViewPoolHelper() {
+    }
+
+    /**
+     * 是否默认为新建的列表启用共享复用池，默认关闭
+     */
+    public static void setEnabled(boolean enabled) {
+        isEnabled = enabled;
+    }
+
+    public static boolean isEnabled() {
+        return isEnabled;
+    }
+
+    /**
+     * 获取 context 所在窗口的共享复用池，无法找到 Activity 时返回 null
+     */
+    @Nullable
+    public static RecyclerView.RecycledViewPool obtain(@NonNull Context context, int viewType) {
+        Activity activity = findActivity(context);
+        if (activity == null) return null;
+
+        RecyclerView.RecycledViewPool pool = pools.get(activity);
+        if (pool == null) {
+            pool = new RecyclerView.RecycledViewPool();
+            pools.put(activity, pool);
+            activity.registerActivityLifecycleCallbacks(callbacks);
+        }
+        pool.setMaxRecycledViews(viewType, MAX_RECYCLED_VIEWS);
+        return pool;
+    }
+
+    public static void clear(@NonNull Activity activity) {
+        RecyclerView.RecycledViewPool pool = pools.remove(activity);
+        if (pool == null) return;
+
+        pool.clear();
+        activity.unregisterActivityLifecycleCallbacks(callbacks);
+    }
+
+    @Nullable
+    private static Activity findActivity(@Nullable Context context) {
+        while (context instanceof ContextWrapper) {
+            if (context instanceof Activity activity) return activity;
+            context = ((ContextWrapper) context).getBaseContext();
+        }
+        return null;
+    }
+}
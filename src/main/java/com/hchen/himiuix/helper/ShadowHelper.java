@@ -18,118 +18,42 @@
  */
 package com.hchen.himiuix.helper;
 
-import android.animation.ArgbEvaluator;
-import android.animation.ValueAnimator;
-import android.content.res.ColorStateList;
-import android.graphics.Color;
-import android.graphics.drawable.ColorDrawable;
 import android.graphics.drawable.Drawable;
-import android.graphics.drawable.GradientDrawable;
-import android.os.Handler;
-import android.os.Looper;
+import android.graphics.drawable.RippleDrawable;
 import android.view.MotionEvent;
 import android.view.View;
 import android.view.ViewConfiguration;
-import android.view.animation.AccelerateInterpolator;
 
 import androidx.annotation.NonNull;
 
-import com.hchen.himiuix.R;
+import com.hchen.himiuix.drawable.MiuixPressDrawable;
 import com.hchen.himiuix.utils.MiuixUtils;
 
 /**
  * 阴影动画帮助程序
+ * <p>
+ * 以 MiuixPressDrawable 包装原有背景，按压反馈由 Drawable 响应 state_pressed 在原背景上叠加遮罩，
+ * 原背景本身不做识别也不被替换
+ * <p>
+ * 不再额外延迟 150ms 才显示按压：位于可滚动父布局（RecyclerView、ScrollView）中时，
+ * View 本身会延迟 TapTimeout 才进入 state_pressed，滑动时不会闪烁；再叠加延迟只会让点按反馈更迟
  *
  * @author 焕晨HChen
  */
 public class ShadowHelper {
     private static final String TAG = "HiMiuix";
+    // 浅色模式下叠加约 10% 的黑色，与原先将颜色压暗至 0.899 倍一致；深色模式下叠加同等比例的白色
+    private static final int LIGHT_OVERLAY_COLOR = 0x1A000000;
+    private static final int DARK_OVERLAY_COLOR = 0x1AFFFFFF;
     private View targetView;
-    private Drawable background;
-    private int originalColor;
-    private int shadowColor;
+    private MiuixPressDrawable pressDrawable;
     private float initialX;
     private float initialY;
     private float touchSlop;
     private boolean isPressCandidate;
-    private boolean isBackgroundChanged;
-    private boolean shouldKeepShadow;
     private boolean isEnabled = true;
     private boolean isShadowEnabled = true;
     private int hapticFeedbackFlag = HapticFeedbackHelper.MIUI_HOLD;
-    private final Handler handler = new Handler(Looper.getMainLooper());
-    private final ShadowAnimator shadowAnimator = new ShadowAnimator();
-    private final Runnable touchDownRunnable = new Runnable() {
-        @Override
-        public void run() {
-            shadowAnimator.endAny();
-            shadowAnimator.startOriginalToShadow();
-            isBackgroundChanged = true;
-        }
-    };
-    private final Runnable touchUpRunnable = new Runnable() {
-        @Override
-        public void run() {
-            if (isPressCandidate) {
-                if (targetView.isHapticFeedbackEnabled())
-                    HapticFeedbackHelper.performHapticFeedback(targetView, hapticFeedbackFlag);
-                shadowAnimator.startShadowToOriginal();
-            }
-            isPressCandidate = false;
-            if (isBackgroundChanged)
-                handler.post(touchCancelRunnable);
-        }
-    };
-    private final Runnable touchCancelRunnable = new Runnable() {
-        @Override
-        public void run() {
-            if (isBackgroundChanged) {
-                shadowAnimator.startShadowToOriginal();
-                isBackgroundChanged = false;
-            }
-        }
-    };
-
-    private class ShadowAnimator {
-        private ValueAnimator shadowAnimator;
-
-        private void startOriginalToShadow() {
-            if (!isShadowEnabled) return;
-            if (shadowAnimator != null && shadowAnimator.isRunning())
-                shadowAnimator.end();
-
-            shadowAnimator = ValueAnimator.ofObject(new ArgbEvaluator(), originalColor, shadowColor);
-            shadowAnimator.setDuration(100);
-            shadowAnimator.setInterpolator(new AccelerateInterpolator());
-            shadowAnimator.addUpdateListener(animation ->
-                setColor(background, (int) animation.getAnimatedValue())
-            );
-            shadowAnimator.start();
-        }
-
-        private void startShadowToOriginal() {
-            if (!isShadowEnabled) return;
-            if (shouldKeepShadow) {
-                startOriginalToShadow();
-                return;
-            }
-            if (shadowAnimator != null && shadowAnimator.isRunning())
-                shadowAnimator.end();
-
-            shadowAnimator = ValueAnimator.ofObject(new ArgbEvaluator(), shadowColor, originalColor);
-            shadowAnimator.setDuration(200);
-            shadowAnimator.setInterpolator(new AccelerateInterpolator());
-            shadowAnimator.addUpdateListener(animation ->
-                setColor(background, (int) animation.getAnimatedValue())
-            );
-            shadowAnimator.start();
-        }
-
-        private void endAny() {
-            if (shadowAnimator != null && shadowAnimator.isRunning())
-                shadowAnimator.end();
-        }
-    }
 
     public static ShadowHelper init(@NonNull View targetView) {
         ShadowHelper shadowHelper = new ShadowHelper();
@@ -140,46 +64,46 @@ public class ShadowHelper {
     private void apply(@NonNull View targetView) {
         this.targetView = targetView;
         targetView.setClickable(true);
-
-        background = targetView.getBackground();
-        background = background.mutate();
         touchSlop = ViewConfiguration.get(targetView.getContext()).getScaledTouchSlop();
-        if (background instanceof GradientDrawable drawable) {
-            ColorStateList colorStateList = drawable.getColor();
-            if (colorStateList != null)
-                originalColor = colorStateList.getDefaultColor();
-            else
-                originalColor = targetView.getContext().getColor(R.color.miuix_basic_background_color);
-        } else if (background instanceof ColorDrawable drawable)
-            originalColor = drawable.getColor();
-
-
-        // 清理
-        shadowAnimator.endAny();
-        setColor(background, originalColor);
+
+        // 自带按压反馈的水波纹背景保持原样
+        Drawable background = targetView.getBackground();
+        if (background == null || background instanceof RippleDrawable || background instanceof MiuixPressDrawable)
+            return;
+
+        // 先移除原背景，否则 setBackground 会清空原背景上由包装层设置的回调
+        targetView.setBackground(null);
+        int overlayColor = MiuixUtils.isDarkMode(targetView.getResources()) ? DARK_OVERLAY_COLOR : LIGHT_OVERLAY_COLOR;
+        pressDrawable = new MiuixPressDrawable(background, overlayColor);
+        targetView.setBackground(pressDrawable);
+        updateHighlightEnabled();
     }
 
     public void setEnabled(boolean enabled) {
         isEnabled = enabled;
+        updateHighlightEnabled();
     }
 
     public void setShadowEnabled(boolean enabled) {
         isShadowEnabled = enabled;
+        updateHighlightEnabled();
     }
 
     public void setKeepShadow() {
-        shouldKeepShadow = true;
+        if (pressDrawable != null && isEnabled && isShadowEnabled)
+            pressDrawable.setKeepHighlight(true);
     }
 
     public void restoreOriginalColor() {
-        shouldKeepShadow = false;
-        shadowAnimator.startShadowToOriginal();
+        if (pressDrawable != null)
+            pressDrawable.setKeepHighlight(false);
     }
 
     public void setHapticFeedbackFlag(int hapticFeedbackFlag) {
         this.hapticFeedbackFlag = hapticFeedbackFlag;
     }
 
+    // 高亮本身由 Drawable 根据按压状态绘制，这里仅处理点击振动
     public void onTouchEvent(MotionEvent event) {
         if (!isEnabled) return;
         if (!targetView.isEnabled()) return;
@@ -187,58 +111,32 @@ public class ShadowHelper {
         switch (event.getActionMasked()) {
             case MotionEvent.ACTION_DOWN:
                 isPressCandidate = true;
-                calculateShadowColor();
                 initialX = event.getRawX();
                 initialY = event.getRawY();
-                handler.removeCallbacks(touchDownRunnable);
-                handler.postDelayed(touchDownRunnable, 150);
                 break;
             case MotionEvent.ACTION_MOVE:
                 if (isPressCandidate) {
                     float dx = event.getRawX() - initialX;
                     float dy = event.getRawY() - initialY;
 
-                    if (Math.hypot(dx, dy) > touchSlop) {
+                    if (Math.hypot(dx, dy) > touchSlop)
                         isPressCandidate = false;
-                        handler.removeCallbacks(touchDownRunnable);
-                    }
                 }
                 break;
             case MotionEvent.ACTION_UP:
-                handler.removeCallbacks(touchDownRunnable);
-                handler.post(touchUpRunnable);
+                if (isPressCandidate && targetView.isHapticFeedbackEnabled())
+                    HapticFeedbackHelper.performHapticFeedback(targetView, hapticFeedbackFlag);
+                isPressCandidate = false;
                 break;
             case MotionEvent.ACTION_CANCEL:
-                handler.removeCallbacks(touchDownRunnable);
-                handler.post(touchCancelRunnable);
+                isPressCandidate = false;
                 break;
         }
     }
 
-    private void calculateShadowColor() {
-        shadowColor = MiuixUtils.isDarkMode(targetView.getResources()) ?
-            lightenColor(originalColor, 1.566f) :
-            darkenColor(originalColor, 0.899f);
-    }
-
-    private int lightenColor(int color, float factor) {
-        int r = Math.min(255, (int) (Color.red(color) * factor));
-        int g = Math.min(255, (int) (Color.green(color) * factor));
-        int b = Math.min(255, (int) (Color.blue(color) * factor));
-        return Color.rgb(r, g, b);
-    }
-
-    private int darkenColor(int color, float factor) {
-        int r = (int) (Color.red(color) * factor);
-        int g = (int) (Color.green(color) * factor);
-        int b = (int) (Color.blue(color) * factor);
-        return Color.rgb(r, g, b);
-    }
-
-    private void setColor(Drawable drawable, int color) {
-        if (drawable instanceof GradientDrawable gradientDrawable)
-            gradientDrawable.setColor(color);
-        else if (drawable instanceof ColorDrawable colorDrawable)
-            colorDrawable.setColor(color);
+    private void updateHighlightEnabled() {
+        if (pressDrawable == null) return;
+        pressDrawable.setHighlightEnabled(isEnabled && isShadowEnabled);
+        if (!isEnabled || !isShadowEnabled) pressDrawable.setKeepHighlight(false);
     }
 }
@@ -24,6 +24,9 @@ import static android.view.View.VISIBLE;
 import android.annotation.SuppressLint;
 import android.content.Context;
 import android.graphics.drawable.Drawable;
+import android.os.Process;
+import android.text.TextUtils;
+import android.util.Log;
 import android.util.SparseBooleanArray;
 import android.view.LayoutInflater;
 import android.view.View;
@@ -34,36 +37,136 @@ import android.widget.TextView;
 
 import androidx.annotation.LayoutRes;
 import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
 import androidx.annotation.UiContext;
+import androidx.annotation.VisibleForTesting;
+import androidx.recyclerview.widget.AdapterListUpdateCallback;
+import androidx.recyclerview.widget.AsyncDifferConfig;
+import androidx.recyclerview.widget.AsyncListDiffer;
+import androidx.recyclerview.widget.DiffUtil;
 import androidx.recyclerview.widget.LinearLayoutManager;
 import androidx.recyclerview.widget.RecyclerView;
 
 import com.hchen.himiuix.R;
 import com.hchen.himiuix.callback.OnChooseItemListener;
+import com.hchen.himiuix.callback.OnIconLoadedListener;
+import com.hchen.himiuix.helper.IconLoaderHelper;
+import com.hchen.himiuix.helper.RecycledViewPoolHelper;
 import com.hchen.himiuix.widget.MiuixCheckBox;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 /**
  * Miuix List Adapter
+ * <p>
+ * 列表内容以快照形式提交给 AsyncListDiffer，在后台线程比较文本、图标与选中状态，只刷新发生变化的行；
+ * 行 ID 由条目文本生成，可选与同一窗口内的其他列表共享复用池，并支持基于前缀索引的过滤与分组标题；
+ * 分页数据源模式下不经过差异计算，按位置直接更新新加载或状态变化的行
  *
  * @author 焕晨HChen
  */
 public class MiuixListAdapter extends RecyclerView.Adapter<MiuixListAdapter.MiuixListViewHolder> {
     private static final String TAG = "HiMiuix:ListAdapter";
+    // 仅选中状态变化时的局部刷新标记
+    @VisibleForTesting
+    static final Object PAYLOAD_CHECKED = new Object();
+    private static final int DEFAULT_PAGE_SIZE = 50;
+    private static final ExecutorService pageExecutor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(() -> {
+            Process.setThreadPriority(Process.THREAD_PRIORITY_BACKGROUND);
+            runnable.run();
+        }, "HiMiuix-ListPaging");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private static final DiffUtil.ItemCallback<ListItem> DIFF_CALLBACK = new DiffUtil.ItemCallback<>() {
+        @Override
+        public boolean areItemsTheSame(@NonNull ListItem oldItem, @NonNull ListItem newItem) {
+            return oldItem.id == newItem.id;
+        }
+
+        @Override
+        public boolean areContentsTheSame(@NonNull ListItem oldItem, @NonNull ListItem newItem) {
+            return TextUtils.equals(oldItem.text, newItem.text) && oldItem.icon == newItem.icon
+                && Objects.equals(oldItem.iconSource, newItem.iconSource) && oldItem.isChecked == newItem.isChecked;
+        }
+
+        @Nullable
+        @Override
+        public Object getChangePayload(@NonNull ListItem oldItem, @NonNull ListItem newItem) {
+            if (TextUtils.equals(oldItem.text, newItem.text) && oldItem.icon == newItem.icon
+                && Objects.equals(oldItem.iconSource, newItem.iconSource))
+                return PAYLOAD_CHECKED;
+            return null;
+        }
+    };
     @NonNull
     @UiContext
     private final Context context;
     @NonNull
     private final RecyclerView recyclerView;
     private final int layoutRes;
+    private final AsyncListDiffer<ListItem> differ;
     private CharSequence[] items;
     private Drawable[] icons;
+    private IconLoaderHelper.Source[] iconSources;
+    private MiuixListFilter filter;
+    private CharSequence[] filterSource;
+    private CharSequence[] buildingFilterSource;
+    private CharSequence filterQuery;
+    private int[] visiblePositions;
+    private MiuixListDataSource dataSource;
+    // 分页模式下显示的行，按位置读取与更新，占位行在首次访问时创建
+    private ListItem[] pagedItems;
+    private final BitSet requestedPages = new BitSet();
+    private int pageSize = DEFAULT_PAGE_SIZE;
+    private int prefetchDistance = DEFAULT_PAGE_SIZE;
+    private int dataSourceGeneration;
+    private MiuixListSections sections;
+    private MiuixListSectionDecoration sectionDecoration;
+    private int[] sectionLookup;
+    private int[] sectionFirstPositions;
+    private Object sectionFirstSource;
+    private MiuixListFastScroller fastScroller;
+    // 插入、移除或移动行后，分组首行可能改变，需要重新计算标题占用的空间
+    private final RecyclerView.AdapterDataObserver sectionObserver = new RecyclerView.AdapterDataObserver() {
+        @Override
+        public void onItemRangeInserted(int positionStart, int itemCount) {
+            recyclerView.invalidateItemDecorations();
+        }
+
+        @Override
+        public void onItemRangeRemoved(int positionStart, int itemCount) {
+            recyclerView.invalidateItemDecorations();
+        }
+
+        @Override
+        public void onItemRangeMoved(int fromPosition, int toPosition, int itemCount) {
+            recyclerView.invalidateItemDecorations();
+        }
+    };
+    private final int iconSize;
+    private CharSequence[] itemIdsSource;
+    private long[] itemIds;
     private int itemBackgroundColor;
     private int itemChooseBackgroundColor;
+    private final int itemTextColor;
+    private final int itemChooseTextColor;
     private boolean isChooseBackgroundColorEnabled = true;
     private boolean isMultipleChoiceEnabled;
-    private SparseBooleanArray booleanArray = new SparseBooleanArray();
+    private MiuixListSelection selection = new MiuixListSelection();
+    // 分页模式下已选中条目的文本，与当前加载了哪些页无关，数据源刷新后按文本恢复选中
+    private final HashSet<String> selectedKeys = new HashSet<>();
     private OnChooseItemListener onChooseItemListener;
 
     public MiuixListAdapter(@NonNull @UiContext Context context) {
@@ -72,7 +175,10 @@ public class MiuixListAdapter extends RecyclerView.Adapter<MiuixListAdapter.Miui
 
     public MiuixListAdapter(@NonNull @UiContext Context context, @LayoutRes int res) {
         this.context = context;
-        layoutRes = res;
+        layoutRes = res == 0 ? R.layout.miuix_item : res;
+        setHasStableIds(true);
+        differ = new AsyncListDiffer<>(new AdapterListUpdateCallback(this),
+            new AsyncDifferConfig.Builder<>(DIFF_CALLBACK).build());
         recyclerView = new RecyclerView(context);
         recyclerView.setLayoutParams(
             new ViewGroup.LayoutParams(
@@ -85,9 +191,13 @@ public class MiuixListAdapter extends RecyclerView.Adapter<MiuixListAdapter.Miui
         recyclerView.setHorizontalScrollBarEnabled(false);
         recyclerView.setVerticalScrollBarEnabled(false);
         recyclerView.setAdapter(this);
+        if (RecycledViewPoolHelper.isEnabled()) setSharedViewPoolEnabled(true);
 
         itemBackgroundColor = context.getColor(R.color.miuix_item_background);
         itemChooseBackgroundColor = context.getColor(R.color.miuix_item_choose_background);
+        itemTextColor = context.getColor(R.color.miuix_item_text);
+        iconSize = context.getResources().getDimensionPixelSize(R.dimen.miuix_item_icon);
+        itemChooseTextColor = context.getColor(R.color.miuix_item_choose_text);
     }
 
     @NonNull
@@ -95,12 +205,286 @@ public class MiuixListAdapter extends RecyclerView.Adapter<MiuixListAdapter.Miui
         return recyclerView;
     }
 
+    /**
+     * 与同一窗口内的其他列表共享行视图复用池
+     */
+    public void setSharedViewPoolEnabled(boolean enabled) {
+        RecyclerView.RecycledViewPool pool = enabled ? RecycledViewPoolHelper.obtain(context, layoutRes) : null;
+        if (enabled && pool == null) return;
+
+        // 共享时在列表移除后将行视图归还复用池，供下一个列表取用
+        ((LinearLayoutManager) recyclerView.getLayoutManager()).setRecycleChildrenOnDetach(enabled);
+        recyclerView.setRecycledViewPool(pool);
+    }
+
+    /**
+     * 替换条目，选中状态按行 ID 迁移到新数组中的同一条目，不再存在的条目取消选中
+     */
     public void setItems(@NonNull CharSequence[] items) {
+        detachDataSource();
+        CharSequence[] oldItems = this.items;
         this.items = items;
+        if (oldItems != null && oldItems != items) remapSelection(oldItems);
+        submitSnapshot();
     }
 
     public void setIcons(Drawable[] icons) {
         this.icons = icons;
+        submitSnapshot();
+    }
+
+    /**
+     * 异步加载的图标来源，同一位置上优先于 {@link #setIcons(Drawable[])}
+     */
+    public void setIconSources(@Nullable IconLoaderHelper.Source[] iconSources) {
+        this.iconSources = iconSources;
+        submitSnapshot();
+    }
+
+    /**
+     * 同时更新条目、图标与选中状态，只提交一次差异计算
+     */
+    public void submitItems(@Nullable CharSequence[] items, @Nullable Drawable[] icons, @NonNull MiuixListSelection selection) {
+        submitItems(items, icons, null, selection);
+    }
+
+    public void submitItems(@Nullable CharSequence[] items, @Nullable Drawable[] icons,
+                            @Nullable IconLoaderHelper.Source[] iconSources, @NonNull MiuixListSelection selection) {
+        detachDataSource();
+        this.items = items;
+        this.icons = icons;
+        this.iconSources = iconSources;
+        this.selection = selection;
+        submitSnapshot();
+    }
+
+    /**
+     * 以分页数据源代替完整的条目数组
+     * <p>
+     * 未加载的位置显示为占位行，绑定到距离未加载页 prefetchDistance 以内的行时在后台加载该页；
+     * 未加载的条目同样可以按位置标记为选中，加载后转为按文本保存，选中回调中未加载的条目为 null。
+     * 分页模式下不支持过滤
+     */
+    public void setDataSource(@Nullable MiuixListDataSource dataSource) {
+        setDataSource(dataSource, DEFAULT_PAGE_SIZE, DEFAULT_PAGE_SIZE);
+    }
+
+    public void setDataSource(@Nullable MiuixListDataSource dataSource, int pageSize, int prefetchDistance) {
+        detachDataSource();
+        if (dataSource == null) {
+            items = null;
+            submitSnapshot();
+            return;
+        }
+
+        // 分页模式不经过差异计算，先移除数组模式下的行
+        differ.submitList(null);
+        this.dataSource = dataSource;
+        this.pageSize = Math.max(1, pageSize);
+        this.prefetchDistance = Math.max(0, prefetchDistance);
+        loadDataSource();
+    }
+
+    /**
+     * 数据源内容变化后调用，重新读取总数并按需重新加载
+     * <p>
+     * 已加载的选中条目按文本保留，重新加载后选中相同文本的条目；未加载的选中条目只能按位置保留
+     */
+    public void invalidateDataSource() {
+        if (dataSource == null) return;
+
+        // 已加载的选中条目保存在 selectedKeys 中，原来的位置不再对应同一条目
+        for (int i = selection.getFirst(); i >= 0 && i < items.length; i = selection.getNext(i + 1)) {
+            if (items[i] != null) selection.set(i, false);
+        }
+        loadDataSource();
+    }
+
+    /**
+     * 分页模式下已选中条目的文本，包含所在页尚未加载的条目
+     */
+    @NonNull
+    public Set<String> getSelectedKeys() {
+        return Collections.unmodifiableSet(selectedKeys);
+    }
+
+    // 重新读取总数，所有行回到占位状态
+    private void loadDataSource() {
+        dataSourceGeneration++;
+        requestedPages.clear();
+        int oldCount = pagedItems != null ? pagedItems.length : 0;
+        items = new CharSequence[Math.max(0, dataSource.getCount())];
+        pagedItems = new ListItem[items.length];
+
+        int common = Math.min(oldCount, items.length);
+        if (common > 0) notifyItemRangeChanged(0, common);
+        if (items.length > oldCount) notifyItemRangeInserted(oldCount, items.length - oldCount);
+        else if (oldCount > items.length) notifyItemRangeRemoved(items.length, oldCount - items.length);
+    }
+
+    @Nullable
+    public MiuixListDataSource getDataSource() {
+        return dataSource;
+    }
+
+    private void detachDataSource() {
+        if (dataSource == null) return;
+
+        dataSource = null;
+        dataSourceGeneration++;
+        requestedPages.clear();
+        selectedKeys.clear();
+        int count = pagedItems.length;
+        pagedItems = null;
+        if (count > 0) notifyItemRangeRemoved(0, count);
+    }
+
+    // 加载 position 前后 prefetchDistance 范围内尚未请求的页
+    private void loadAround(int position) {
+        if (dataSource == null || items == null || items.length == 0) return;
+
+        int firstPage = Math.max(0, position - prefetchDistance) / pageSize;
+        int lastPage = Math.min(items.length - 1, position + prefetchDistance) / pageSize;
+        for (int page = firstPage; page <= lastPage; page++) {
+            if (!requestedPages.get(page)) loadPage(page);
+        }
+    }
+
+    private void loadPage(int page) {
+        requestedPages.set(page);
+        MiuixListDataSource source = dataSource;
+        int generation = dataSourceGeneration;
+        int start = page * pageSize;
+        int count = Math.min(pageSize, items.length - start);
+        pageExecutor.execute(() -> {
+            CharSequence[] result;
+            try {
+                result = source.loadRange(start, count);
+            } catch (Exception e) {
+                Log.w(TAG, "Failed to load page: " + page, e);
+                result = null;
+            }
+
+            CharSequence[] loaded = result;
+            recyclerView.post(() -> {
+                if (generation != dataSourceGeneration) return;
+                // 加载失败时允许下次绑定时重试
+                if (loaded == null) {
+                    requestedPages.clear(page);
+                    return;
+                }
+
+                // 只写入并刷新本页的行
+                int length = Math.min(count, loaded.length);
+                System.arraycopy(loaded, 0, items, start, length);
+                restoreSelection(start, length);
+                updatePagedItems(start, start + length);
+            });
+        });
+    }
+
+    /**
+     * 设置分组，分组标题由 {@link MiuixListSectionDecoration} 绘制并固定在顶部，传入 null 时移除
+     */
+    public void setSections(@Nullable MiuixListSections sections) {
+        if (this.sections == sections) return;
+        this.sections = sections;
+        sectionLookup = null;
+        sectionFirstSource = null;
+        if (sections == null) {
+            if (sectionDecoration != null) {
+                recyclerView.removeItemDecoration(sectionDecoration);
+                unregisterAdapterDataObserver(sectionObserver);
+            }
+            sectionDecoration = null;
+            return;
+        }
+
+        if (sectionDecoration == null) {
+            sectionDecoration = new MiuixListSectionDecoration(context, this);
+            recyclerView.addItemDecoration(sectionDecoration);
+            registerAdapterDataObserver(sectionObserver);
+        } else {
+            sectionDecoration.invalidateLayouts();
+            recyclerView.invalidateItemDecorations();
+        }
+    }
+
+    @Nullable
+    public MiuixListSections getSections() {
+        return sections;
+    }
+
+    @Nullable
+    public MiuixListSectionDecoration getSectionDecoration() {
+        return sectionDecoration;
+    }
+
+    /**
+     * 行所在的分组，O(1) 查表，不属于任何分组时返回 -1
+     */
+    public int getSectionForPosition(int position) {
+        if (sections == null || items == null) return -1;
+        if (position < 0 || position >= getItemCount()) return -1;
+        // 查找表只依赖条目数量，分页加载与过滤时无需重建
+        if (sectionLookup == null || sectionLookup.length != items.length)
+            sectionLookup = sections.buildLookup(items.length);
+        // 分页模式下行的位置即为条目位置
+        int index = pagedItems != null ? position : differ.getCurrentList().get(position).index;
+        return index < sectionLookup.length ? sectionLookup[index] : -1;
+    }
+
+    /**
+     * 分组中第一个显示的行，分组被过滤为空时返回 -1
+     * <p>
+     * 结果按当前显示的列表缓存，列表变化后首次调用时重建
+     */
+    public int getSectionFirstPosition(int section) {
+        if (sections == null || section < 0 || section >= sections.getSectionCount()) return -1;
+
+        Object current = pagedItems != null ? pagedItems : differ.getCurrentList();
+        if (sectionFirstSource != current) {
+            sectionFirstPositions = new int[sections.getSectionCount()];
+            Arrays.fill(sectionFirstPositions, -1);
+            for (int i = getItemCount() - 1; i >= 0; i--) {
+                int sectionOf = getSectionForPosition(i);
+                if (sectionOf >= 0) sectionFirstPositions[sectionOf] = i;
+            }
+            sectionFirstSource = current;
+        }
+        return sectionFirstPositions[section];
+    }
+
+    /**
+     * 启用快速滚动条，存在分组时拖动会对齐到分组并显示分组标题
+     */
+    public void setFastScrollEnabled(boolean enabled) {
+        if (enabled == (fastScroller != null)) return;
+
+        if (enabled) {
+            fastScroller = new MiuixListFastScroller(context, this, recyclerView);
+            fastScroller.attach();
+        } else {
+            fastScroller.detach();
+            fastScroller = null;
+        }
+    }
+
+    public boolean isFastScrollEnabled() {
+        return fastScroller != null;
+    }
+
+    @Nullable
+    public MiuixListFastScroller getFastScroller() {
+        return fastScroller;
+    }
+
+    /**
+     * 行是否为所在分组中第一个显示的行，过滤后分组的首行可能不是分组的起始条目
+     */
+    public boolean isSectionStart(int position) {
+        int section = getSectionForPosition(position);
+        return section >= 0 && (position == 0 || getSectionForPosition(position - 1) != section);
     }
 
     public void setItemBackgroundColor(int color) {
@@ -119,8 +503,33 @@ public class MiuixListAdapter extends RecyclerView.Adapter<MiuixListAdapter.Miui
         onChooseItemListener = listener;
     }
 
+    public void setSelection(@NonNull MiuixListSelection selection) {
+        this.selection = selection;
+        submitSnapshot();
+    }
+
+    @NonNull
+    public MiuixListSelection getSelection() {
+        return selection;
+    }
+
+    /**
+     * 直接修改 {@link #getSelection()} 后调用，提交新的选中状态
+     */
+    public void notifySelectionChanged() {
+        submitSnapshot();
+    }
+
+    /**
+     * @deprecated 使用 {@link #setSelection(MiuixListSelection)}
+     */
+    @Deprecated
     public void setBooleanArray(SparseBooleanArray booleanArray) {
-        this.booleanArray = booleanArray;
+        MiuixListSelection selection = new MiuixListSelection();
+        for (int i = 0; i < booleanArray.size(); i++) {
+            if (booleanArray.valueAt(i)) selection.set(booleanArray.keyAt(i), true);
+        }
+        setSelection(selection);
     }
 
     public void setMultipleChoiceEnabled(boolean enabled) {
@@ -131,86 +540,348 @@ public class MiuixListAdapter extends RecyclerView.Adapter<MiuixListAdapter.Miui
     @Override
     public MiuixListViewHolder onCreateViewHolder(@NonNull ViewGroup parent, int viewType) {
         return new MiuixListViewHolder(
-            LayoutInflater.from(context)
-                .inflate(layoutRes == 0 ? R.layout.miuix_item : layoutRes, parent, false)
+            LayoutInflater.from(context).inflate(layoutRes, parent, false)
         );
     }
 
     @Override
-    @SuppressLint("ClickableViewAccessibility")
     public void onBindViewHolder(@NonNull MiuixListViewHolder holder, int position) {
-        holder.layout.setOnTouchListener(null);
-        holder.xCheckBox.setOnStateChangeListener(null);
-
-        if (icons == null) holder.iconView.setVisibility(GONE);
+        ListItem item = getItem(position);
+        holder.cancelIconRequest();
+        if (item.iconSource != null) bindIconSource(holder, item.iconSource);
+        else if (item.icon == null) holder.iconView.setVisibility(GONE);
         else {
-            holder.iconView.setImageDrawable(icons[position]);
+            holder.iconView.setImageDrawable(item.icon);
             holder.iconView.setVisibility(VISIBLE);
         }
-        updateItemBackground(holder);
-        holder.textView.setText(items[position]);
-        holder.xCheckBox.setChecked(booleanArray.get(position));
-        holder.layout.setOnTouchListener((v, event) -> holder.xCheckBox.dispatchTouchEvent(event));
-        holder.xCheckBox.setOnStateChangeListener(newValue -> {
-            if (onChooseItemListener == null || onChooseItemListener.onChooseBefore(items[holder.getAbsoluteAdapterPosition()], holder.getAbsoluteAdapterPosition())) {
-                if (isMultipleChoiceEnabled) {
-                    booleanArray.put(holder.getAbsoluteAdapterPosition(), newValue);
-                    updateItemBackground(holder);
-                    if (onChooseItemListener != null) {
-                        ArrayList<CharSequence> resultItems = new ArrayList<>();
-                        ArrayList<Integer> resultValues = new ArrayList<>();
-                        for (int i = 0; i < items.length; i++) {
-                            if (booleanArray.get(i)) {
-                                resultItems.add(items[i]);
-                                resultValues.add(i);
-                            }
-                        }
-                        onChooseItemListener.onChooseAfter(items,
-                            resultItems.toArray(new CharSequence[0]),
-                            resultValues.toArray(new Integer[0]));
+        holder.textView.setText(item.text);
+        bindCheckedState(holder, item.isChecked);
+        loadAround(item.index);
+    }
+
+    @Override
+    public void onBindViewHolder(@NonNull MiuixListViewHolder holder, int position, @NonNull List<Object> payloads) {
+        if (payloads.isEmpty()) {
+            onBindViewHolder(holder, position);
+            return;
+        }
+
+        // 下标遍历，避免创建迭代器
+        for (int i = 0; i < payloads.size(); i++) {
+            if (payloads.get(i) != PAYLOAD_CHECKED) {
+                onBindViewHolder(holder, position);
+                return;
+            }
+        }
+        bindCheckedState(holder, getItem(position).isChecked);
+    }
+
+    // 图标视图尺寸固定，加载完成前保持空白
+    private void bindIconSource(MiuixListViewHolder holder, IconLoaderHelper.Source source) {
+        holder.iconSource = source;
+        holder.iconView.setImageDrawable(null);
+        holder.iconView.setVisibility(VISIBLE);
+        holder.iconRequest = IconLoaderHelper.load(context, source, iconSize, holder.iconListener);
+    }
+
+    @Override
+    public void onViewRecycled(@NonNull MiuixListViewHolder holder) {
+        holder.cancelIconRequest();
+    }
+
+    private void bindCheckedState(MiuixListViewHolder holder, boolean isChecked) {
+        updateItemBackground(holder, isChecked);
+        holder.xCheckBox.setChecked(isChecked);
+    }
+
+    // 由 ViewHolder 中一次性创建的监听器调用
+    private boolean onItemStateChange(MiuixListViewHolder holder, boolean newValue) {
+        int adapterPosition = holder.getAbsoluteAdapterPosition();
+        if (adapterPosition == RecyclerView.NO_POSITION) return false;
+
+        // 选中状态以条目在完整列表中的位置保存，过滤后依然有效
+        // 显示的快照可能早于最新的条目数组，按行 ID 换算到最新数组，条目已被移除时不响应
+        ListItem item = getItem(adapterPosition);
+        int value = resolveIndex(item);
+        if (value < 0) return false;
+        if (onChooseItemListener == null || onChooseItemListener.onChooseBefore(item.text, value)) {
+            if (isMultipleChoiceEnabled) {
+                selection.set(value, newValue);
+                updateSelectedKey(value, newValue);
+                updateItemBackground(holder, newValue);
+                submitSnapshot();
+                if (onChooseItemListener != null) {
+                    // 选中数量已缓存，结果数组按确切长度分配
+                    selection.trim(items.length);
+                    CharSequence[] resultItems = new CharSequence[selection.getCount()];
+                    Integer[] resultValues = new Integer[resultItems.length];
+                    int index = 0;
+                    for (int i = selection.getFirst(); i >= 0; i = selection.getNext(i + 1)) {
+                        resultItems[index] = items[i];
+                        resultValues[index++] = i;
                     }
-                } else {
-                    int lastSelected = getCheckedPosition();
-                    if (lastSelected == holder.getAbsoluteAdapterPosition())
-                        return false;
-
-                    booleanArray.clear();
-                    booleanArray.put(holder.getAbsoluteAdapterPosition(), newValue);
-                    notifyItemChanged(lastSelected);
-                    notifyItemChanged(holder.getAbsoluteAdapterPosition());
-                    if (onChooseItemListener != null)
-                        onChooseItemListener.onChooseAfter(items,
-                            new CharSequence[]{items[holder.getAbsoluteAdapterPosition()]},
-                            new Integer[]{holder.getAbsoluteAdapterPosition()});
+                    onChooseItemListener.onChooseAfter(items, resultItems, resultValues);
                 }
-                return true;
+            } else {
+                if (selection.getFirst() == value)
+                    return false;
+
+                selection.clear();
+                selection.set(value, newValue);
+                selectedKeys.clear();
+                updateSelectedKey(value, newValue);
+                // 差异计算只会刷新上一个与当前选中的行
+                submitSnapshot();
+                if (onChooseItemListener != null)
+                    onChooseItemListener.onChooseAfter(items,
+                        new CharSequence[]{item.text},
+                        new Integer[]{value});
             }
-            return false;
-        });
+            return true;
+        }
+        return false;
+    }
+
+    // 快照中的行在最新条目数组中的位置，不存在时返回 -1
+    private int resolveIndex(ListItem item) {
+        if (items == null) return -1;
+        // 分页模式下以位置作为 ID，同一数据源内位置不变
+        if (dataSource != null) return item.index < items.length ? item.index : -1;
+
+        long[] ids = obtainItemIds();
+        if (item.index < ids.length && ids[item.index] == item.id) return item.index;
+        for (int i = 0; i < ids.length; i++) {
+            if (ids[i] == item.id) return i;
+        }
+        return -1;
     }
 
     @Override
     public int getItemCount() {
-        return items.length;
+        return pagedItems != null ? pagedItems.length : differ.getCurrentList().size();
+    }
+
+    @Override
+    public long getItemId(int position) {
+        // 分页模式下以位置作为 ID
+        return pagedItems != null ? position : differ.getCurrentList().get(position).id;
+    }
+
+    private ListItem getItem(int position) {
+        if (pagedItems == null) return differ.getCurrentList().get(position);
+
+        ListItem item = pagedItems[position];
+        if (item == null) {
+            item = new ListItem(position, position, items[position], iconAt(position), iconSourceAt(position), selection.isSelected(position));
+            pagedItems[position] = item;
+        }
+        return item;
+    }
+
+    private Drawable iconAt(int index) {
+        return icons != null && index < icons.length ? icons[index] : null;
     }
 
-    private void updateItemBackground(MiuixListViewHolder holder) {
-        if (booleanArray.get(holder.getAbsoluteAdapterPosition())) {
+    private IconLoaderHelper.Source iconSourceAt(int index) {
+        return iconSources != null && index < iconSources.length ? iconSources[index] : null;
+    }
+
+    // 共享复用池中以布局区分不同样式的行
+    @Override
+    public int getItemViewType(int position) {
+        return layoutRes;
+    }
+
+    // 由当前条目、图标与选中状态生成不可变快照并提交差异计算
+    private void submitSnapshot() {
+        if (items == null) {
+            differ.submitList(null);
+            return;
+        }
+        if (pagedItems != null) {
+            syncSelectedKeys();
+            updatePagedItems(0, pagedItems.length);
+            return;
+        }
+
+        if (filterSource != items) {
+            // 条目变化后旧的过滤结果失效，过滤中时保留当前显示的快照，新索引建立后再提交，避免先闪现全部条目
+            if (!TextUtils.isEmpty(filterQuery)) {
+                buildFilterIndex();
+                return;
+            }
+            visiblePositions = null;
+        }
+
+        // 未变化的行复用上一份快照中的对象，全选等批量操作只为状态改变的行分配
+        List<ListItem> current = differ.getCurrentList();
+        int count = visiblePositions != null ? visiblePositions.length : items.length;
+        ArrayList<ListItem> snapshot = new ArrayList<>(count);
+        long[] ids = obtainItemIds();
+        for (int k = 0; k < count; k++) {
+            int i = visiblePositions != null ? visiblePositions[k] : k;
+            Drawable icon = iconAt(i);
+            IconLoaderHelper.Source iconSource = iconSourceAt(i);
+            boolean isChecked = selection.isSelected(i);
+            ListItem last = k < current.size() ? current.get(k) : null;
+            long id = ids[i];
+            if (last != null && last.index == i && last.id == id && last.text == items[i] && last.icon == icon
+                && last.iconSource == iconSource && last.isChecked == isChecked)
+                snapshot.add(last);
+            else snapshot.add(new ListItem(id, i, items[i], icon, iconSource, isChecked));
+        }
+        differ.submitList(snapshot);
+    }
+
+    /**
+     * 按前缀过滤条目，每个单词的开头均可匹配，为空时显示全部条目
+     * <p>
+     * 索引在后台线程建立并随条目数组更新，结果通过差异计算刷新
+     */
+    public void setFilterQuery(@Nullable CharSequence query) {
+        if (TextUtils.equals(filterQuery, query)) return;
+        filterQuery = query;
+        if (dataSource != null) return;
+        if (TextUtils.isEmpty(query)) visiblePositions = null;
+        else if (filter != null && filterSource == items) visiblePositions = filter.query(query);
+        else {
+            buildFilterIndex();
+            return;
+        }
+        submitSnapshot();
+    }
+
+    @Nullable
+    public CharSequence getFilterQuery() {
+        return filterQuery;
+    }
+
+    private void buildFilterIndex() {
+        if (items == null || buildingFilterSource == items) return;
+
+        CharSequence[] source = items;
+        buildingFilterSource = source;
+        MiuixListFilter.build(source, result -> {
+            if (buildingFilterSource != source) return;
+            buildingFilterSource = null;
+            filter = result;
+            filterSource = source;
+            visiblePositions = source == items ? result.query(filterQuery) : null;
+            submitSnapshot();
+        });
+    }
+
+    // 行 ID 只依赖条目文本，条目数组不变时复用
+    private long[] obtainItemIds() {
+        if (itemIdsSource == items) return itemIds;
+
+        itemIds = buildItemIds(items);
+        itemIdsSource = items;
+        return itemIds;
+    }
+
+    // 高 32 位为文本哈希，低 32 位为同一哈希的出现次序，重复文本与哈希冲突均可得到唯一 ID
+    static long[] buildItemIds(CharSequence[] items) {
+        HashMap<Integer, Integer> occurrences = new HashMap<>();
+        long[] ids = new long[items.length];
+        for (int i = 0; i < items.length; i++) {
+            int hash = items[i] == null ? 0 : items[i].toString().hashCode();
+            Integer last = occurrences.get(hash);
+            int occurrence = last == null ? 0 : last + 1;
+            occurrences.put(hash, occurrence);
+            ids[i] = ((long) hash << 32) | (occurrence & 0xFFFFFFFFL);
+        }
+        return ids;
+    }
+
+    // 条目数组替换后按行 ID 迁移选中状态，插入、移除或重排后选中的仍是原来的条目
+    private void remapSelection(CharSequence[] oldItems) {
+        long[] oldIds = itemIdsSource == oldItems ? itemIds : buildItemIds(oldItems);
+        selection.remap(oldIds, oldItems, obtainItemIds(), items);
+    }
+
+    // 分页模式下更新 [from, to) 中已创建的行，未创建的占位行在绑定时按最新状态创建
+    private void updatePagedItems(int from, int to) {
+        for (int i = from; i < to; i++) {
+            ListItem last = pagedItems[i];
+            if (last == null) continue;
+
+            Drawable icon = iconAt(i);
+            IconLoaderHelper.Source iconSource = iconSourceAt(i);
+            boolean isChecked = selection.isSelected(i);
+            boolean isSameContent = last.text == items[i] && last.icon == icon && last.iconSource == iconSource;
+            if (isSameContent && last.isChecked == isChecked) continue;
+
+            pagedItems[i] = new ListItem(i, i, items[i], icon, iconSource, isChecked);
+            if (isSameContent) notifyItemChanged(i, PAYLOAD_CHECKED);
+            else notifyItemChanged(i);
+        }
+    }
+
+    // 新加载的页中按文本恢复选中；按位置选中的未加载条目在加载后转为按文本保存
+    private void restoreSelection(int start, int count) {
+        for (int i = start; i < start + count; i++) {
+            if (items[i] == null) continue;
+
+            String key = items[i].toString();
+            if (selectedKeys.contains(key)) selection.set(i, true);
+            else if (selection.isSelected(i)) selectedKeys.add(key);
+        }
+    }
+
+    private void updateSelectedKey(int index, boolean selected) {
+        if (dataSource == null || items[index] == null) return;
+
+        if (selected) selectedKeys.add(items[index].toString());
+        else selectedKeys.remove(items[index].toString());
+    }
+
+    // 外部修改选中状态后，以已加载行的选中状态更新对应的文本，所在页未加载的文本保持不变
+    private void syncSelectedKeys() {
+        // 先移除再添加，重复文本中只要有一行选中即保留
+        for (int pass = 0; pass < 2; pass++) {
+            for (int page = requestedPages.nextSetBit(0); page >= 0; page = requestedPages.nextSetBit(page + 1)) {
+                int end = Math.min(items.length, (page + 1) * pageSize);
+                for (int i = page * pageSize; i < end; i++) {
+                    if (items[i] == null) continue;
+
+                    boolean isSelected = selection.isSelected(i);
+                    if (pass == 0 && !isSelected) selectedKeys.remove(items[i].toString());
+                    else if (pass == 1 && isSelected) selectedKeys.add(items[i].toString());
+                }
+            }
+        }
+    }
+
+    private void updateItemBackground(MiuixListViewHolder holder, boolean isChecked) {
+        if (isChecked) {
             if (isChooseBackgroundColorEnabled)
                 holder.layout.setBackgroundColor(itemChooseBackgroundColor);
-            holder.textView.setTextColor(context.getColor(R.color.miuix_item_choose_text));
+            holder.textView.setTextColor(itemChooseTextColor);
         } else {
             if (isChooseBackgroundColorEnabled)
                 holder.layout.setBackgroundColor(itemBackgroundColor);
-            holder.textView.setTextColor(context.getColor(R.color.miuix_item_text));
+            holder.textView.setTextColor(itemTextColor);
         }
     }
 
-    private int getCheckedPosition() {
-        for (int i = 0; i < booleanArray.size(); i++) {
-            if (booleanArray.valueAt(i)) return booleanArray.keyAt(i);
+    static final class ListItem {
+        final long id;
+        // 在完整条目中的位置
+        final int index;
+        final CharSequence text;
+        final Drawable icon;
+        final IconLoaderHelper.Source iconSource;
+        final boolean isChecked;
+
+        ListItem(long id, int index, CharSequence text, Drawable icon, IconLoaderHelper.Source iconSource, boolean isChecked) {
+            this.id = id;
+            this.index = index;
+            this.text = text;
+            this.icon = icon;
+            this.iconSource = iconSource;
+            this.isChecked = isChecked;
         }
-        return -1;
     }
 
     public static class MiuixListViewHolder extends RecyclerView.ViewHolder {
@@ -218,13 +889,36 @@ public class MiuixListAdapter extends RecyclerView.Adapter<MiuixListAdapter.Miui
         ImageView iconView;
         TextView textView;
         MiuixCheckBox xCheckBox;
+        IconLoaderHelper.Source iconSource;
+        IconLoaderHelper.Request iconRequest;
+        // 重新绑定前会取消旧请求，被取消的请求不会回调，因此复用同一个监听器即可
+        final OnIconLoadedListener iconListener = icon -> {
+            iconRequest = null;
+            iconView.setImageDrawable(icon);
+        };
 
+        @SuppressLint("ClickableViewAccessibility")
         public MiuixListViewHolder(@NonNull View itemView) {
             super(itemView);
             layout = (LinearLayout) itemView;
             iconView = itemView.findViewById(R.id.miuix_item_icon);
             textView = itemView.findViewById(R.id.miuix_item_text);
             xCheckBox = itemView.findViewById(R.id.miuix_item_check_box);
+
+            // 监听器随 ViewHolder 只创建一次，绑定时不再分配
+            // 共享复用池时 ViewHolder 可能被其他列表绑定，因此每次从当前绑定的适配器分发
+            layout.setOnTouchListener((v, event) -> xCheckBox.dispatchTouchEvent(event));
+            xCheckBox.setOnStateChangeListener(newValue -> {
+                if (!(getBindingAdapter() instanceof MiuixListAdapter adapter)) return false;
+                return adapter.onItemStateChange(this, newValue);
+            });
+        }
+
+        void cancelIconRequest() {
+            iconSource = null;
+            if (iconRequest == null) return;
+            iconRequest.cancel();
+            iconRequest = null;
         }
     }
 }
@@ -0,0 +1,45 @@
+/*
+ * This file is part of HiMiuix.
+ *
+ * HiMiuix is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * HiMiuix is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with HiMiuix. If not, see <https://www.gnu.org/licenses/lgpl-2.1>.
+ *
+ * Copyright (C) 2023–2025 HChenX
+ */
+package com.hchen.himiuix.list;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.WorkerThread;
+
+/**
+ * 分页列表数据源
+ * <p>
+ * 列表先按总数显示占位行，滚动到附近时再在后台线程按页加载条目
+ *
+ * @author 焕晨HChen
+ */
+public interface MiuixListDataSource {
+    /**
+     * 条目总数，在主线程调用
+     */
+    int getCount();
+
+    /**
+     * 加载 [start, start + count) 区间的条目，在后台线程调用
+     * <p>
+     * 返回数组长度不足 count 时，其余位置保持占位
+     */
+    @NonNull
+    @WorkerThread
+    CharSequence[] loadRange(int start, int count);
+}
@@ -0,0 +1,253 @@
+/*
+ * This file is part of HiMiuix.
+ *
+ * HiMiuix is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * HiMiuix is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with HiMiuix. If not, see <https://www.gnu.org/licenses/lgpl-2.1>.
+ *
+ * Copyright (C) 2023–2025 HChenX
+ */
+package com.hchen.himiuix.list;
+
+import android.content.Context;
+import android.graphics.Canvas;
+import android.graphics.Paint;
+import android.graphics.RectF;
+import android.text.TextPaint;
+import android.text.TextUtils;
+import android.view.MotionEvent;
+import android.view.View;
+import android.view.ViewTreeObserver;
+
+import androidx.annotation.ColorInt;
+import androidx.annotation.NonNull;
+import androidx.recyclerview.widget.LinearLayoutManager;
+import androidx.recyclerview.widget.RecyclerView;
+
+import com.hchen.himiuix.R;
+import com.hchen.himiuix.helper.PrecomputedTextHelper;
+
+/**
+ * 列表快速滚动条
+ * <p>
+ * 拖动滑块时按比例定位到目标行，存在分组时对齐到分组首行并显示分组标题；
+ * 通过 scrollToPositionWithOffset 直接跳转，中间的行不会被绑定。
+ * 滑块位置由首个可见行与行数计算，是否可滚动在每次布局后按首尾行判断，不在每帧查询滚动范围
+ *
+ * @author 焕晨HChen
+ */
+public class MiuixListFastScroller extends RecyclerView.ItemDecoration implements RecyclerView.OnItemTouchListener {
+    private static final int HIDE_DELAY = 1500;
+    @NonNull
+    private final MiuixListAdapter adapter;
+    @NonNull
+    private final RecyclerView recyclerView;
+    private final Paint thumbPaint = new Paint(Paint.ANTI_ALIAS_FLAG);
+    private final Paint popupPaint = new Paint(Paint.ANTI_ALIAS_FLAG);
+    private final TextPaint popupTextPaint;
+    private final RectF rect = new RectF();
+    private final int thumbWidth;
+    private final int thumbHeight;
+    private final int touchWidth;
+    private final int margin;
+    private final int popupSize;
+    private boolean isVisible;
+    private boolean isScrollable;
+    private boolean isDragging;
+    // 拖动时滑块的位置比例，未拖动时由首个可见行计算
+    private float dragFraction;
+    private int popupSection = -1;
+    private final Runnable hideRunnable = () -> {
+        isVisible = false;
+        recyclerView.invalidate();
+    };
+    // 滚动不会触发布局，只在布局完成后更新一次是否可滚动
+    private final ViewTreeObserver.OnGlobalLayoutListener layoutListener = this::updateScrollable;
+    private final RecyclerView.OnScrollListener scrollListener = new RecyclerView.OnScrollListener() {
+        @Override
+        public void onScrolled(@NonNull RecyclerView recyclerView, int dx, int dy) {
+            if (dy != 0) show();
+        }
+    };
+
+    MiuixListFastScroller(@NonNull Context context, @NonNull MiuixListAdapter adapter, @NonNull RecyclerView recyclerView) {
+        this.adapter = adapter;
+        this.recyclerView = recyclerView;
+        thumbWidth = context.getResources().getDimensionPixelSize(R.dimen.miuix_item_fast_scroll_thumb_width);
+        thumbHeight = context.getResources().getDimensionPixelSize(R.dimen.miuix_item_fast_scroll_thumb_height);
+        touchWidth = context.getResources().getDimensionPixelSize(R.dimen.miuix_item_fast_scroll_touch_width);
+        margin = context.getResources().getDimensionPixelSize(R.dimen.miuix_item_fast_scroll_margin);
+        popupSize = context.getResources().getDimensionPixelSize(R.dimen.miuix_item_fast_scroll_popup);
+        thumbPaint.setColor(context.getColor(R.color.miuix_summary_color));
+        thumbPaint.setAlpha(0x99);
+        popupPaint.setColor(context.getColor(R.color.miuix_item_choose_text));
+        popupTextPaint = new TextPaint(PrecomputedTextHelper.getParams(context, R.style.MiuixTitleStyle).getTextPaint());
+        popupTextPaint.setColor(context.getColor(android.R.color.white));
+        popupTextPaint.setTextAlign(Paint.Align.CENTER);
+        popupTextPaint.setTextSize(popupSize * 0.4f);
+    }
+
+    void attach() {
+        recyclerView.addItemDecoration(this);
+        recyclerView.addOnItemTouchListener(this);
+        recyclerView.addOnScrollListener(scrollListener);
+        recyclerView.getViewTreeObserver().addOnGlobalLayoutListener(layoutListener);
+    }
+
+    void detach() {
+        recyclerView.removeCallbacks(hideRunnable);
+        recyclerView.removeItemDecoration(this);
+        recyclerView.removeOnItemTouchListener(this);
+        recyclerView.removeOnScrollListener(scrollListener);
+        recyclerView.getViewTreeObserver().removeOnGlobalLayoutListener(layoutListener);
+    }
+
+    public void setThumbColor(@ColorInt int color) {
+        thumbPaint.setColor(color);
+    }
+
+    public void setPopupColor(@ColorInt int color) {
+        popupPaint.setColor(color);
+    }
+
+    public void setPopupTextColor(@ColorInt int color) {
+        popupTextPaint.setColor(color);
+    }
+
+    private void show() {
+        if (!isScrollable) return;
+
+        isVisible = true;
+        recyclerView.removeCallbacks(hideRunnable);
+        if (!isDragging) recyclerView.postDelayed(hideRunnable, HIDE_DELAY);
+    }
+
+    // 首行与末行都完整显示时列表无需滚动，此时立即隐藏滚动条
+    private void updateScrollable() {
+        int count = adapter.getItemCount();
+        if (count > 1 && recyclerView.getLayoutManager() instanceof LinearLayoutManager layoutManager) {
+            isScrollable = layoutManager.findFirstCompletelyVisibleItemPosition() != 0
+                || layoutManager.findLastCompletelyVisibleItemPosition() != count - 1;
+        } else isScrollable = false;
+
+        if (isScrollable || !isVisible || isDragging) return;
+        recyclerView.removeCallbacks(hideRunnable);
+        isVisible = false;
+        recyclerView.invalidate();
+    }
+
+    private boolean isLayoutRtl() {
+        return recyclerView.getLayoutDirection() == View.LAYOUT_DIRECTION_RTL;
+    }
+
+    @Override
+    public void onDrawOver(@NonNull Canvas canvas, @NonNull RecyclerView parent, @NonNull RecyclerView.State state) {
+        if (!isVisible) return;
+
+        int count = adapter.getItemCount();
+        if (count <= 1) return;
+
+        float fraction = isDragging ? dragFraction : computeScrollFraction(count);
+        int trackTop = parent.getPaddingTop() + margin;
+        int trackHeight = parent.getHeight() - parent.getPaddingBottom() - margin - trackTop - thumbHeight;
+        float thumbTop = trackTop + Math.max(0, trackHeight) * Math.max(0f, Math.min(1f, fraction));
+
+        boolean isRtl = isLayoutRtl();
+        float thumbLeft = isRtl ? parent.getPaddingLeft() + margin : parent.getWidth() - parent.getPaddingRight() - margin - thumbWidth;
+        rect.set(thumbLeft, thumbTop, thumbLeft + thumbWidth, thumbTop + thumbHeight);
+        canvas.drawRoundRect(rect, thumbWidth / 2f, thumbWidth / 2f, thumbPaint);
+
+        if (!isDragging || popupSection < 0) return;
+        MiuixListSections sections = adapter.getSections();
+        if (sections == null || popupSection >= sections.getSectionCount()) return;
+
+        // 分组标题气泡显示在滑块内侧
+        float popupLeft = isRtl ? thumbLeft + thumbWidth + margin * 2 : thumbLeft - margin * 2 - popupSize;
+        float popupTop = Math.max(parent.getPaddingTop(), thumbTop + thumbHeight / 2f - popupSize / 2f);
+        rect.set(popupLeft, popupTop, popupLeft + popupSize, popupTop + popupSize);
+        canvas.drawRoundRect(rect, popupSize / 4f, popupSize / 4f, popupPaint);
+
+        CharSequence title = TextUtils.ellipsize(sections.getTitle(popupSection), popupTextPaint, popupSize - margin * 2, TextUtils.TruncateAt.END);
+        float baseline = rect.centerY() - (popupTextPaint.descent() + popupTextPaint.ascent()) / 2f;
+        canvas.drawText(title, 0, title.length(), rect.centerX(), baseline, popupTextPaint);
+    }
+
+    @Override
+    public boolean onInterceptTouchEvent(@NonNull RecyclerView rv, @NonNull MotionEvent e) {
+        if (e.getActionMasked() != MotionEvent.ACTION_DOWN || !isVisible || !isInTouchArea(e.getX())) return isDragging;
+
+        isDragging = true;
+        recyclerView.removeCallbacks(hideRunnable);
+        if (rv.getParent() != null) rv.getParent().requestDisallowInterceptTouchEvent(true);
+        scrollTo(e.getY());
+        return true;
+    }
+
+    @Override
+    public void onTouchEvent(@NonNull RecyclerView rv, @NonNull MotionEvent e) {
+        if (!isDragging) return;
+
+        switch (e.getActionMasked()) {
+            case MotionEvent.ACTION_MOVE -> scrollTo(e.getY());
+            case MotionEvent.ACTION_UP, MotionEvent.ACTION_CANCEL -> {
+                isDragging = false;
+                popupSection = -1;
+                show();
+                rv.invalidate();
+            }
+        }
+    }
+
+    @Override
+    public void onRequestDisallowInterceptTouchEvent(boolean disallowIntercept) {
+    }
+
+    private boolean isInTouchArea(float x) {
+        if (isLayoutRtl()) return x <= recyclerView.getPaddingLeft() + touchWidth;
+        return x >= recyclerView.getWidth() - recyclerView.getPaddingRight() - touchWidth;
+    }
+
+    // 按触摸位置计算目标行，存在分组时对齐到分组首行
+    private void scrollTo(float y) {
+        int count = adapter.getItemCount();
+        if (count == 0) return;
+
+        int trackTop = recyclerView.getPaddingTop() + margin + thumbHeight / 2;
+        int trackHeight = recyclerView.getHeight() - recyclerView.getPaddingBottom() - margin - thumbHeight / 2 - trackTop;
+        dragFraction = trackHeight <= 0 ? 0 : Math.max(0f, Math.min(1f, (y - trackTop) / trackHeight));
+
+        int position = Math.round(dragFraction * (count - 1));
+        popupSection = adapter.getSectionForPosition(position);
+        if (popupSection >= 0) {
+            int first = adapter.getSectionFirstPosition(popupSection);
+            if (first >= 0) position = first;
+        }
+
+        if (recyclerView.getLayoutManager() instanceof LinearLayoutManager layoutManager)
+            layoutManager.scrollToPositionWithOffset(position, 0);
+        else recyclerView.scrollToPosition(position);
+        recyclerView.invalidate();
+    }
+
+    // 首个可见行在可滚动行数中的比例，滚动到底部时为 1
+    private float computeScrollFraction(int count) {
+        if (!(recyclerView.getLayoutManager() instanceof LinearLayoutManager layoutManager)) return 0;
+
+        int first = layoutManager.findFirstVisibleItemPosition();
+        int last = layoutManager.findLastVisibleItemPosition();
+        if (first == RecyclerView.NO_POSITION || last == RecyclerView.NO_POSITION) return 0;
+        if (last >= count - 1) return 1;
+
+        int scrollable = count - (last - first + 1);
+        return scrollable <= 0 ? 0 : (float) first / scrollable;
+    }
+}
@@ -0,0 +1,176 @@
+/*
+ * This file is part of HiMiuix.
+ *
+ * HiMiuix is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * HiMiuix is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with HiMiuix. If not, see <https://www.gnu.org/licenses/lgpl-2.1>.
+ *
+ * Copyright (C) 2023–2025 HChenX
+ */
+package com.hchen.himiuix.list;
+
+import android.os.Handler;
+import android.os.Looper;
+import android.os.Process;
+import android.text.TextUtils;
+
+import androidx.annotation.MainThread;
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.annotation.WorkerThread;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Locale;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Consumer;
+
+/**
+ * 列表条目过滤索引
+ * <p>
+ * 记录每个单词起点（中日韩文字为每个字符）在条目中的偏移，按起点到条目末尾的后缀排序，
+ * 后缀在原文本中就地比较而不复制，内存与起点数量呈线性关系；
+ * 查询时二分查找前缀所在区间，单次查询与条目总数呈对数关系
+ *
+ * @author 焕晨HChen
+ */
+public class MiuixListFilter {
+    private static final Handler handler = new Handler(Looper.getMainLooper());
+    private static final ExecutorService executor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(() -> {
+            Process.setThreadPriority(Process.THREAD_PRIORITY_BACKGROUND);
+            runnable.run();
+        }, "HiMiuix-ListFilter");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private final int size;
+    // 规范化后的条目文本
+    private final String[] texts;
+    // 按后缀排序的起点，owners 为条目位置，offsets 为起点在条目中的偏移
+    private final int[] owners;
+    private final int[] offsets;
+    private final BitSet matches = new BitSet();
+
+    @WorkerThread
+    public MiuixListFilter(@NonNull CharSequence[] entries) {
+        size = entries.length;
+        texts = new String[entries.length];
+        ArrayList<Key> list = new ArrayList<>(entries.length * 2);
+        for (int i = 0; i < entries.length; i++) {
+            if (entries[i] == null) continue;
+
+            String text = normalize(entries[i]);
+            texts[i] = text;
+            for (int j = 0; j < text.length(); j++) {
+                if (isTokenStart(text, j)) list.add(new Key(i, j));
+            }
+        }
+        list.sort((a, b) -> compare(texts[a.owner], a.offset, texts[b.owner], b.offset));
+
+        owners = new int[list.size()];
+        offsets = new int[list.size()];
+        for (int i = 0; i < owners.length; i++) {
+            owners[i] = list.get(i).owner;
+            offsets[i] = list.get(i).offset;
+        }
+    }
+
+    /**
+     * 在后台线程构建索引，完成后在主线程回调
+     */
+    public static void build(@NonNull CharSequence[] entries, @NonNull Consumer<MiuixListFilter> callback) {
+        executor.execute(() -> {
+            MiuixListFilter filter = new MiuixListFilter(entries);
+            handler.post(() -> callback.accept(filter));
+        });
+    }
+
+    /**
+     * 查询匹配的条目位置，按条目顺序排列
+     *
+     * @return 查询为空时返回 null，表示不过滤
+     */
+    @Nullable
+    @MainThread
+    public int[] query(@Nullable CharSequence query) {
+        if (TextUtils.isEmpty(query)) return null;
+        String prefix = normalize(query).trim();
+        if (prefix.isEmpty()) return null;
+
+        matches.clear();
+        for (int i = lowerBound(prefix); i < owners.length && texts[owners[i]].startsWith(prefix, offsets[i]); i++) {
+            matches.set(owners[i]);
+        }
+
+        int[] result = new int[matches.cardinality()];
+        int index = 0;
+        for (int i = matches.nextSetBit(0); i >= 0; i = matches.nextSetBit(i + 1)) {
+            result[index++] = i;
+        }
+        return result;
+    }
+
+    /**
+     * 建立索引时的条目数量
+     */
+    public int size() {
+        return size;
+    }
+
+    private int lowerBound(String prefix) {
+        int low = 0;
+        int high = owners.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (compare(texts[owners[mid]], offsets[mid], prefix, 0) < 0) low = mid + 1;
+            else high = mid;
+        }
+        return low;
+    }
+
+    // 按字典序比较 a 与 b 从各自偏移开始到末尾的部分，与 String.compareTo 一致
+    private static int compare(String a, int aOffset, String b, int bOffset) {
+        int aLength = a.length() - aOffset;
+        int bLength = b.length() - bOffset;
+        int limit = Math.min(aLength, bLength);
+        for (int k = 0; k < limit; k++) {
+            char x = a.charAt(aOffset + k);
+            char y = b.charAt(bOffset + k);
+            if (x != y) return x - y;
+        }
+        return aLength - bLength;
+    }
+
+    private static String normalize(CharSequence text) {
+        return text.toString().toLowerCase(Locale.ROOT);
+    }
+
+    // 字母或数字且位于单词开头；中日韩文字没有分词，每个字符都作为起点
+    private static boolean isTokenStart(String text, int index) {
+        char c = text.charAt(index);
+        if (!Character.isLetterOrDigit(c)) return false;
+        if (index == 0 || Character.isIdeographic(c)) return true;
+        return !Character.isLetterOrDigit(text.charAt(index - 1));
+    }
+
+    private static final class Key {
+        private final int owner;
+        private final int offset;
+
+        private Key(int owner, int offset) {
+            this.owner = owner;
+            this.offset = offset;
+        }
+    }
+}
@@ -0,0 +1,158 @@
+/*
+ * This file is part of HiMiuix.
+ *
+ * HiMiuix is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * HiMiuix is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with HiMiuix. If not, see <https://www.gnu.org/licenses/lgpl-2.1>.
+ *
+ * Copyright (C) 2023–2025 HChenX
+ */
+package com.hchen.himiuix.list;
+
+import android.content.Context;
+import android.graphics.Canvas;
+import android.graphics.Paint;
+import android.graphics.Rect;
+import android.text.Layout;
+import android.text.StaticLayout;
+import android.text.TextPaint;
+import android.text.TextUtils;
+import android.view.View;
+
+import androidx.annotation.ColorInt;
+import androidx.annotation.NonNull;
+import androidx.recyclerview.widget.RecyclerView;
+
+import com.hchen.himiuix.R;
+import com.hchen.himiuix.helper.PrecomputedTextHelper;
+
+/**
+ * 列表分组标题
+ * <p>
+ * 由 ItemDecoration 在每个分组的第一行上方绘制标题，并在顶部固定当前分组的标题；
+ * 不为分组创建视图，滚动时也不会触发重新布局
+ *
+ * @author 焕晨HChen
+ */
+public class MiuixListSectionDecoration extends RecyclerView.ItemDecoration {
+    @NonNull
+    private final MiuixListAdapter adapter;
+    private final TextPaint textPaint;
+    private final Paint backgroundPaint = new Paint();
+    private final int headerHeight;
+    private final int paddingStartEnd;
+    // 每个分组的标题排版缓存，宽度变化时重建
+    private StaticLayout[] layouts;
+    private int layoutWidth;
+
+    public MiuixListSectionDecoration(@NonNull Context context, @NonNull MiuixListAdapter adapter) {
+        this.adapter = adapter;
+        textPaint = new TextPaint(PrecomputedTextHelper.getParams(context, R.style.MiuixSummaryStyle).getTextPaint());
+        textPaint.setColor(context.getColor(R.color.miuix_summary_color));
+        backgroundPaint.setColor(context.getColor(R.color.miuix_card_other));
+        headerHeight = context.getResources().getDimensionPixelSize(R.dimen.miuix_item_section_height);
+        paddingStartEnd = context.getResources().getDimensionPixelSize(R.dimen.miuix_item_padding_start_end);
+    }
+
+    public void setTextColor(@ColorInt int color) {
+        textPaint.setColor(color);
+    }
+
+    public void setBackgroundColor(@ColorInt int color) {
+        backgroundPaint.setColor(color);
+    }
+
+    // 分组变化后清除排版缓存
+    void invalidateLayouts() {
+        layouts = null;
+    }
+
+    @Override
+    public void getItemOffsets(@NonNull Rect outRect, @NonNull View view, @NonNull RecyclerView parent, @NonNull RecyclerView.State state) {
+        int position = parent.getChildAdapterPosition(view);
+        if (position != RecyclerView.NO_POSITION && adapter.isSectionStart(position))
+            outRect.top = headerHeight;
+        else outRect.setEmpty();
+    }
+
+    @Override
+    public void onDraw(@NonNull Canvas canvas, @NonNull RecyclerView parent, @NonNull RecyclerView.State state) {
+        for (int i = 0; i < parent.getChildCount(); i++) {
+            View child = parent.getChildAt(i);
+            int position = parent.getChildAdapterPosition(child);
+            if (position == RecyclerView.NO_POSITION || !adapter.isSectionStart(position)) continue;
+
+            int top = child.getTop() + Math.round(child.getTranslationY()) - headerHeight;
+            drawHeader(canvas, parent, adapter.getSectionForPosition(position), top);
+        }
+    }
+
+    @Override
+    public void onDrawOver(@NonNull Canvas canvas, @NonNull RecyclerView parent, @NonNull RecyclerView.State state) {
+        if (parent.getChildCount() == 0) return;
+
+        View first = parent.getChildAt(0);
+        int position = parent.getChildAdapterPosition(first);
+        if (position == RecyclerView.NO_POSITION) return;
+        int section = adapter.getSectionForPosition(position);
+        if (section < 0) return;
+
+        // 下一个分组的标题到达顶部时将固定标题向上推出
+        int top = 0;
+        for (int i = 1; i < parent.getChildCount(); i++) {
+            View child = parent.getChildAt(i);
+            int childPosition = parent.getChildAdapterPosition(child);
+            if (childPosition == RecyclerView.NO_POSITION || !adapter.isSectionStart(childPosition)) continue;
+
+            int nextTop = child.getTop() + Math.round(child.getTranslationY()) - headerHeight;
+            if (nextTop >= headerHeight) break;
+            top = Math.min(0, nextTop - headerHeight);
+            break;
+        }
+        drawHeader(canvas, parent, section, top);
+    }
+
+    private void drawHeader(@NonNull Canvas canvas, @NonNull RecyclerView parent, int section, int top) {
+        StaticLayout layout = obtainLayout(parent, section);
+        if (layout == null) return;
+
+        canvas.drawRect(parent.getPaddingLeft(), top, parent.getWidth() - parent.getPaddingRight(), top + headerHeight, backgroundPaint);
+        canvas.save();
+        canvas.translate(parent.getPaddingLeft() + paddingStartEnd, top + (headerHeight - layout.getHeight()) / 2f);
+        layout.draw(canvas);
+        canvas.restore();
+    }
+
+    private StaticLayout obtainLayout(@NonNull RecyclerView parent, int section) {
+        MiuixListSections sections = adapter.getSections();
+        if (sections == null || section < 0 || section >= sections.getSectionCount()) return null;
+
+        int width = Math.max(0, parent.getWidth() - parent.getPaddingLeft() - parent.getPaddingRight() - paddingStartEnd * 2);
+        if (layouts == null || layouts.length != sections.getSectionCount() || layoutWidth != width) {
+            layouts = new StaticLayout[sections.getSectionCount()];
+            layoutWidth = width;
+        }
+
+        StaticLayout layout = layouts[section];
+        if (layout == null) {
+            CharSequence title = sections.getTitle(section);
+            layout = StaticLayout.Builder.obtain(title, 0, title.length(), textPaint, width)
+                .setAlignment(Layout.Alignment.ALIGN_NORMAL)
+                .setMaxLines(1)
+                .setEllipsize(TextUtils.TruncateAt.END)
+                .setIncludePad(false)
+                .build();
+            layouts[section] = layout;
+        }
+        return layout;
+    }
+}
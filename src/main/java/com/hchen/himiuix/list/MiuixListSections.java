@@ -0,0 +1,73 @@
+/*
+ * This file is part of HiMiuix.
+ *
+ * HiMiuix is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * HiMiuix is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with HiMiuix. If not, see <https://www.gnu.org/licenses/lgpl-2.1>.
+ *
+ * Copyright (C) 2023–2025 HChenX
+ */
+package com.hchen.himiuix.list;
+
+import androidx.annotation.NonNull;
+
+/**
+ * 列表分组
+ * <p>
+ * 每个分组由标题与其第一个条目在完整列表中的位置组成，起始位置需递增
+ *
+ * @author 焕晨HChen
+ */
+public class MiuixListSections {
+    private final CharSequence[] titles;
+    private final int[] starts;
+
+    public MiuixListSections(@NonNull CharSequence[] titles, @NonNull int[] starts) {
+        if (titles.length != starts.length)
+            throw new IllegalArgumentException("MiuixListSections: Titles and starts must have the same length!" +
+                " Titles: " + titles.length + " Starts: " + starts.length);
+        for (int i = 1; i < starts.length; i++) {
+            if (starts[i] <= starts[i - 1])
+                throw new IllegalArgumentException("MiuixListSections: Starts must be strictly increasing! Index: " + i);
+        }
+
+        this.titles = titles;
+        this.starts = starts;
+    }
+
+    public int getSectionCount() {
+        return titles.length;
+    }
+
+    @NonNull
+    public CharSequence getTitle(int section) {
+        return titles[section];
+    }
+
+    public int getStart(int section) {
+        return starts[section];
+    }
+
+    /**
+     * 生成条目位置到分组的查找表，第一个分组之前的条目为 -1
+     */
+    @NonNull
+    int[] buildLookup(int size) {
+        int[] lookup = new int[size];
+        int section = -1;
+        for (int i = 0; i < size; i++) {
+            while (section + 1 < starts.length && starts[section + 1] <= i) section++;
+            lookup[i] = section;
+        }
+        return lookup;
+    }
+}
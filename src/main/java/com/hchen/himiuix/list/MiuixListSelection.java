@@ -0,0 +1,220 @@
+/*
+ * This file is part of HiMiuix.
+ *
+ * HiMiuix is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * HiMiuix is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with HiMiuix. If not, see <https://www.gnu.org/licenses/lgpl-2.1>.
+ *
+ * Copyright (C) 2023–2025 HChenX
+ */
+package com.hchen.himiuix.list;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+
+/**
+ * 列表选中状态
+ * <p>
+ * 以 BitSet 保存选中位置，单个切换为 O(1)，区间选中与清除按字批量处理，并缓存选中数量
+ * 位置对应当前条目数组，{@link MiuixListAdapter#setItems(CharSequence[])} 替换条目时会按行 ID 迁移到新位置，
+ * 自行保存选中状态时可通过 {@link #remap(CharSequence[], CharSequence[])} 做同样的迁移
+ *
+ * @author 焕晨HChen
+ */
+public class MiuixListSelection {
+    private final BitSet bitSet = new BitSet();
+    // 选中数量缓存，-1 表示需要重新统计
+    private int count;
+
+    public MiuixListSelection() {
+    }
+
+    public MiuixListSelection(@Nullable int[] positions) {
+        setAll(positions);
+    }
+
+    public boolean isSelected(int position) {
+        return position >= 0 && bitSet.get(position);
+    }
+
+    public void set(int position, boolean selected) {
+        if (position < 0 || bitSet.get(position) == selected) return;
+
+        bitSet.set(position, selected);
+        if (count != -1) count += selected ? 1 : -1;
+    }
+
+    public void toggle(int position) {
+        set(position, !isSelected(position));
+    }
+
+    /**
+     * 设置区间 [from, to) 的选中状态
+     */
+    public void setRange(int from, int to, boolean selected) {
+        if (from < 0 || from >= to) return;
+
+        bitSet.set(from, to, selected);
+        count = -1;
+    }
+
+    public void selectAll(int size) {
+        bitSet.clear(size, Math.max(size, bitSet.length()));
+        bitSet.set(0, size);
+        count = size;
+    }
+
+    /**
+     * 仅保留给定的位置，忽略负数
+     */
+    public void setAll(@Nullable int[] positions) {
+        bitSet.clear();
+        count = 0;
+        if (positions == null) return;
+        for (int position : positions) {
+            set(position, true);
+        }
+    }
+
+    /**
+     * 仅保留给定的位置，忽略 null 与负数
+     */
+    public void setAll(@Nullable Integer[] positions) {
+        bitSet.clear();
+        count = 0;
+        if (positions == null) return;
+        for (Integer position : positions) {
+            if (position != null) set(position, true);
+        }
+    }
+
+    /**
+     * 条目数组替换后按条目迁移选中状态，插入、移除或重排后选中的仍是原来的条目，不再存在的条目取消选中
+     * <p>
+     * 条目以文本与相同文本的出现次序区分
+     */
+    public void remap(@NonNull CharSequence[] oldItems, @NonNull CharSequence[] newItems) {
+        if (oldItems == newItems) return;
+        remap(MiuixListAdapter.buildItemIds(oldItems), oldItems, MiuixListAdapter.buildItemIds(newItems), newItems);
+    }
+
+    // 由调用方提供行 ID，适配器可复用已缓存的 ID
+    void remap(@NonNull long[] oldIds, @NonNull CharSequence[] oldItems, @NonNull long[] newIds, @NonNull CharSequence[] newItems) {
+        if (isEmpty()) return;
+
+        long[] selectedIds = new long[getCount()];
+        int count = 0;
+        for (int i = getFirst(); i >= 0; i = getNext(i + 1)) {
+            // 未加载的占位行无法确定是哪一条目
+            if (i < oldItems.length && oldItems[i] != null) selectedIds[count++] = oldIds[i];
+        }
+        Arrays.sort(selectedIds, 0, count);
+
+        clear();
+        for (int i = 0; i < newIds.length && count > 0; i++) {
+            if (newItems[i] != null && Arrays.binarySearch(selectedIds, 0, count, newIds[i]) >= 0)
+                set(i, true);
+        }
+    }
+
+    public void clear() {
+        bitSet.clear();
+        count = 0;
+    }
+
+    /**
+     * 清除 size 及之后的位置，用于列表变短后裁剪选中状态
+     */
+    public void trim(int size) {
+        if (size >= bitSet.length()) return;
+
+        bitSet.clear(Math.max(size, 0), bitSet.length());
+        count = -1;
+    }
+
+    public int getCount() {
+        if (count == -1) count = bitSet.cardinality();
+        return count;
+    }
+
+    public boolean isEmpty() {
+        return bitSet.isEmpty();
+    }
+
+    /**
+     * 第一个选中的位置，不存在时返回 -1
+     */
+    public int getFirst() {
+        return bitSet.nextSetBit(0);
+    }
+
+    /**
+     * from 及之后的下一个选中位置，不存在时返回 -1
+     */
+    public int getNext(int from) {
+        return bitSet.nextSetBit(Math.max(from, 0));
+    }
+
+    @NonNull
+    public int[] toArray() {
+        int[] positions = new int[getCount()];
+        int index = 0;
+        for (int i = bitSet.nextSetBit(0); i >= 0; i = bitSet.nextSetBit(i + 1)) {
+            positions[index++] = i;
+        }
+        return positions;
+    }
+
+    @NonNull
+    public PrimitiveIterator.OfInt iterator() {
+        return new PrimitiveIterator.OfInt() {
+            private int next = bitSet.nextSetBit(0);
+
+            @Override
+            public boolean hasNext() {
+                return next >= 0;
+            }
+
+            @Override
+            public int nextInt() {
+                if (next < 0) throw new NoSuchElementException();
+
+                int current = next;
+                next = bitSet.nextSetBit(current + 1);
+                return current;
+            }
+        };
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof MiuixListSelection selection)) return false;
+        return bitSet.equals(selection.bitSet);
+    }
+
+    @Override
+    public int hashCode() {
+        return bitSet.hashCode();
+    }
+
+    @NonNull
+    @Override
+    public String toString() {
+        return bitSet.toString();
+    }
+}
@@ -86,8 +86,6 @@ public class MiuixDropDownPreference extends MiuixPreference implements OnChoose
         super.onBindViewHolder(holder);
         MiuixDropDownView xDropDownView = holder.itemView.findViewById(R.id.miuix_prefs);
 
-        xDropDownView.setManuallyRefreshViewMode(true);
-
         xDropDownView.setOnChooseItemListener(null);
         xDropDownView.setOnChooseItemListener(this);
 
@@ -95,9 +93,6 @@ public class MiuixDropDownPreference extends MiuixPreference implements OnChoose
         xDropDownView.setEntry(entry);
         xDropDownView.setValue(value);
         xDropDownView.setShowOnTip(isShowOnTip);
-
-        xDropDownView.setManuallyRefreshViewMode(false);
-        xDropDownView.refreshView();
     }
 
     @Override
@@ -39,7 +39,6 @@ import java.util.Arrays;
 import java.util.HashSet;
 import java.util.Objects;
 import java.util.Set;
-import java.util.stream.Collectors;
 
 /**
  * Miuix List Preference
@@ -92,9 +91,7 @@ public class MiuixListPreference extends MiuixPreference implements OnChooseItem
         super.onBindViewHolder(holder);
         MiuixListView xListView = holder.itemView.findViewById(R.id.miuix_prefs);
 
-        xListView.setManuallyRefreshViewMode(true);
-
-        xListView.setOnChooseItemListener(null);
+        // 设置器只标记待刷新内容，与父类的设置合并为一次刷新
         xListView.setOnChooseItemListener(this);
 
         xListView.setItems(items);
@@ -103,9 +100,6 @@ public class MiuixListPreference extends MiuixPreference implements OnChooseItem
         xListView.setSelectedValues(selectedValues);
         xListView.setMultipleChoiceEnabled(isMultipleChoiceEnabled);
         xListView.setMaxHeight(maxHeight);
-
-        xListView.setManuallyRefreshViewMode(false);
-        xListView.refreshView();
     }
 
     @Override
@@ -188,7 +182,11 @@ public class MiuixListPreference extends MiuixPreference implements OnChooseItem
     public void onChooseAfter(CharSequence[] items, CharSequence[] selectedItems, Integer[] selectedValues) {
         this.selectedItems = selectedItems;
         this.selectedValues = selectedValues;
-        persistStringSet(Arrays.stream(selectedValues).map(String::valueOf).collect(Collectors.toSet()));
+        HashSet<String> values = new HashSet<>(Math.max(16, (int) (selectedValues.length / .75f) + 1));
+        for (Integer value : selectedValues) {
+            values.add(String.valueOf(value));
+        }
+        persistStringSet(values);
         notifyDependencyChange(shouldDisableDependents());
         notifyChanged();
 
@@ -207,7 +205,11 @@ public class MiuixListPreference extends MiuixPreference implements OnChooseItem
         super.onSetInitialValue(defaultValue);
         if (defaultValue == null) defaultValue = new HashSet<>();
         Set<String> set = getPersistedStringSet((Set<String>) defaultValue);
-        selectedValues = set.stream().map(Integer::parseInt).toArray(Integer[]::new);
+        selectedValues = new Integer[set.size()];
+        int index = 0;
+        for (String value : set) {
+            selectedValues[index++] = Integer.parseInt(value);
+        }
     }
 
     @Nullable
@@ -250,11 +252,13 @@ public class MiuixListPreference extends MiuixPreference implements OnChooseItem
 
         public SavedState(Parcel source) {
             super(source);
-            int length = source.readInt();
-            if (length != -1) {
-                int[] ints = new int[length];
-                source.readIntArray(ints);
-                selectedValues = Arrays.stream(ints).boxed().toArray(Integer[]::new);
+            // writeIntArray 与 createIntArray 都以长度 -1 表示 null，两端必须成对使用
+            int[] ints = source.createIntArray();
+            if (ints != null) {
+                selectedValues = new Integer[ints.length];
+                for (int i = 0; i < ints.length; i++) {
+                    selectedValues[i] = ints[i];
+                }
             }
         }
 
@@ -265,7 +269,14 @@ public class MiuixListPreference extends MiuixPreference implements OnChooseItem
         @Override
         public void writeToParcel(Parcel dest, int flags) {
             super.writeToParcel(dest, flags);
-            dest.writeIntArray(Arrays.stream(selectedValues).mapToInt(value -> value).toArray());
+            int[] ints = null;
+            if (selectedValues != null) {
+                ints = new int[selectedValues.length];
+                for (int i = 0; i < ints.length; i++) {
+                    ints[i] = selectedValues[i];
+                }
+            }
+            dest.writeIntArray(ints);
         }
     }
 }
@@ -18,9 +18,6 @@
  */
 package com.hchen.himiuix.preference;
 
-import static android.view.View.GONE;
-import static android.view.View.VISIBLE;
-
 import android.annotation.SuppressLint;
 import android.app.Activity;
 import android.content.Context;
@@ -29,7 +26,6 @@ import android.graphics.drawable.Drawable;
 import android.util.AttributeSet;
 import android.view.LayoutInflater;
 import android.view.View;
-import android.widget.ImageView;
 
 import androidx.annotation.CallSuper;
 import androidx.annotation.DrawableRes;
@@ -45,11 +41,15 @@ import androidx.recyclerview.widget.RecyclerView;
 import com.hchen.himiuix.MiuixBasicView;
 import com.hchen.himiuix.R;
 import com.hchen.himiuix.callback.OnRefreshViewListener;
+import com.hchen.himiuix.helper.AuditHelper;
+import com.hchen.himiuix.helper.IconLoaderHelper;
+import com.hchen.himiuix.helper.PrecomputedTextHelper;
 import com.hchen.himiuix.utils.InvokeUtils;
 import com.hchen.himiuix.widget.MiuixCardView;
 
 import java.util.ArrayList;
 import java.util.Objects;
+import java.util.Set;
 
 /**
  * Preference
@@ -68,6 +68,7 @@ public class MiuixPreference extends Preference implements OnRefreshViewListener
     private Drawable indicator;
     private View customView;
     private int iconRadius;
+    private IconLoaderHelper.Source iconSource;
     private boolean isShadowEnabled;
     private boolean isHapticFeedbackEnabled;
     private final View.OnClickListener onClickListener = new View.OnClickListener() {
@@ -122,9 +123,7 @@ public class MiuixPreference extends Preference implements OnRefreshViewListener
         MiuixCardView xCardView = (MiuixCardView) holder.itemView;
         MiuixBasicView xBasicView = holder.itemView.findViewById(R.id.miuix_prefs);
 
-        // 取消自动刷新
-        xBasicView.setManuallyRefreshViewMode(true);
-
+        // 设置器会被合并为一次刷新，在测量或下一帧绘制前执行
         xBasicView.setOnRefreshViewListener(null);
         xBasicView.setOnClickListener(null);
 
@@ -132,7 +131,8 @@ public class MiuixPreference extends Preference implements OnRefreshViewListener
         xBasicView.setTip(tip);
         xBasicView.setTitle(getTitle());
         xBasicView.setSummary(getSummary());
-        xBasicView.setIcon(getIcon());
+        if (iconSource != null) xBasicView.setIcon(iconSource);
+        else xBasicView.setIcon(getIcon());
         xBasicView.setIconRadius(iconRadius);
         xBasicView.setIndicator(indicator);
         if (canSetCustomView())
@@ -144,9 +144,6 @@ public class MiuixPreference extends Preference implements OnRefreshViewListener
         xBasicView.setHapticFeedbackEnabled(isHapticFeedbackEnabled);
         xBasicView.setOnRefreshViewListener(this);
         xBasicView.setOnClickListener(onClickListener);
-
-        xBasicView.setManuallyRefreshViewMode(false);
-        xBasicView.refreshView();
     }
 
     boolean canSetCustomView() {
@@ -156,14 +153,12 @@ public class MiuixPreference extends Preference implements OnRefreshViewListener
     // 在视图刷新后回调
     @Override
     public void refreshed(MiuixBasicView view) {
-        if (view.getIndicatorView() instanceof ImageView) {
-            if (getFragment() != null || getIntent() != null ||
+        if (view.hasCustomIndicator()) {
+            view.setCustomIndicatorVisible(getFragment() != null || getIntent() != null ||
                 getOnPreferenceChangeListener() != null ||
                 getOnPreferenceClickListener() != null ||
                 view.forceShowCustomIndicatorView()
-            ) {
-                view.getIndicatorView().setVisibility(VISIBLE);
-            } else view.getIndicatorView().setVisibility(GONE);
+            );
         }
     }
 
@@ -205,6 +200,15 @@ public class MiuixPreference extends Preference implements OnRefreshViewListener
         notifyChanged();
     }
 
+    /**
+     * 异步加载图标，设置后优先于 {@link #setIcon(Drawable)}
+     */
+    public void setIconSource(@Nullable IconLoaderHelper.Source source) {
+        if (Objects.equals(iconSource, source)) return;
+        iconSource = source;
+        notifyChanged();
+    }
+
     public void setCustomView(View customView) {
         if (Objects.equals(this.customView, customView)) return;
         this.customView = customView;
@@ -225,6 +229,11 @@ public class MiuixPreference extends Preference implements OnRefreshViewListener
         return iconRadius;
     }
 
+    @Nullable
+    public IconLoaderHelper.Source getIconSource() {
+        return iconSource;
+    }
+
     public View getCustomView() {
         return customView;
     }
@@ -264,6 +273,17 @@ public class MiuixPreference extends Preference implements OnRefreshViewListener
         registerDependency();
     }
 
+    /**
+     * 在后台预计算标题、摘要与提示，绑定时直接应用
+     * <p>
+     * 由 {@link com.hchen.himiuix.fragment.PreferenceFragmentCompat} 按显示顺序在绑定前调用
+     */
+    public void prefetchText() {
+        PrecomputedTextHelper.prefetch(getContext(), R.style.MiuixTitleStyle, getTitle());
+        PrecomputedTextHelper.prefetch(getContext(), R.style.MiuixSummaryStyle, getSummary());
+        PrecomputedTextHelper.prefetch(getContext(), R.style.MiuixTipStyle, tip);
+    }
+
     @Override
     public void onDetached() {
         unregisterDependency();
@@ -326,6 +346,68 @@ public class MiuixPreference extends Preference implements OnRefreshViewListener
         } else super.notifyChanged();
     }
 
+    // ------------------------------ Audit --------------------------------
+    // 记录 SharedPreferences 读取，仅在 AuditHelper 启用时有开销
+    @Override
+    protected String getPersistedString(String defaultReturnValue) {
+        long auditBegin = AuditHelper.begin();
+        try {
+            return super.getPersistedString(defaultReturnValue);
+        } finally {
+            AuditHelper.end(AuditHelper.PREFS_READ, String.valueOf(getKey()), auditBegin);
+        }
+    }
+
+    @Override
+    public Set<String> getPersistedStringSet(Set<String> defaultReturnValue) {
+        long auditBegin = AuditHelper.begin();
+        try {
+            return super.getPersistedStringSet(defaultReturnValue);
+        } finally {
+            AuditHelper.end(AuditHelper.PREFS_READ, String.valueOf(getKey()), auditBegin);
+        }
+    }
+
+    @Override
+    protected int getPersistedInt(int defaultReturnValue) {
+        long auditBegin = AuditHelper.begin();
+        try {
+            return super.getPersistedInt(defaultReturnValue);
+        } finally {
+            AuditHelper.end(AuditHelper.PREFS_READ, String.valueOf(getKey()), auditBegin);
+        }
+    }
+
+    @Override
+    protected long getPersistedLong(long defaultReturnValue) {
+        long auditBegin = AuditHelper.begin();
+        try {
+            return super.getPersistedLong(defaultReturnValue);
+        } finally {
+            AuditHelper.end(AuditHelper.PREFS_READ, String.valueOf(getKey()), auditBegin);
+        }
+    }
+
+    @Override
+    protected float getPersistedFloat(float defaultReturnValue) {
+        long auditBegin = AuditHelper.begin();
+        try {
+            return super.getPersistedFloat(defaultReturnValue);
+        } finally {
+            AuditHelper.end(AuditHelper.PREFS_READ, String.valueOf(getKey()), auditBegin);
+        }
+    }
+
+    @Override
+    protected boolean getPersistedBoolean(boolean defaultReturnValue) {
+        long auditBegin = AuditHelper.begin();
+        try {
+            return super.getPersistedBoolean(defaultReturnValue);
+        } finally {
+            AuditHelper.end(AuditHelper.PREFS_READ, String.valueOf(getKey()), auditBegin);
+        }
+    }
+
     // ------------------------------ UnSupport --------------------------------
     @Override
     public void setViewId(int viewId) {
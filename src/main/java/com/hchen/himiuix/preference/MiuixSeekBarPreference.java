@@ -103,8 +103,6 @@ public class MiuixSeekBarPreference extends MiuixPreference implements SeekBar.O
         super.onBindViewHolder(holder);
         MiuixSeekBarView xSeekBarView = holder.itemView.findViewById(R.id.miuix_prefs);
 
-        xSeekBarView.setManuallyRefreshViewMode(true);
-
         xSeekBarView.setOnSeekBarChangeListener(null);
         xSeekBarView.setOnSeekBarChangeListener(this);
 
@@ -119,9 +117,6 @@ public class MiuixSeekBarPreference extends MiuixPreference implements SeekBar.O
         xSeekBarView.setDialogModeEnabled(isDialogModeEnabled);
         xSeekBarView.setShowDefaultPoint(isShowDefaultPoint);
         xSeekBarView.setAlwaysHapticFeedback(isAlwaysHapticFeedback);
-
-        xSeekBarView.setManuallyRefreshViewMode(false);
-        xSeekBarView.refreshView();
     }
 
     public void setValue(int value) {
@@ -88,9 +88,7 @@ class MiuixStatePreference extends MiuixPreference implements OnStateChangeListe
         super.onBindViewHolder(holder);
         MiuixStateView xStateView = holder.itemView.findViewById(R.id.miuix_prefs);
 
-        xStateView.setManuallyRefreshViewMode(true);
-
-        xStateView.setOnStateChangeListener(null);
+        // 设置器只标记待刷新内容，与父类的设置合并为一次刷新
         xStateView.setOnStateChangeListener(this);
 
         xStateView.setChecked(isChecked);
@@ -98,9 +96,6 @@ class MiuixStatePreference extends MiuixPreference implements OnStateChangeListe
         xStateView.setTipOff(tipOff);
         xStateView.setSummaryOn(summaryOn);
         xStateView.setSummaryOff(summaryOff);
-
-        xStateView.setManuallyRefreshViewMode(false);
-        xStateView.refreshView();
     }
 
     @Override
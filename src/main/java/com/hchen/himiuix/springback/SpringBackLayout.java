@@ -53,6 +53,7 @@ import androidx.core.widget.NestedScrollView;
 
 import com.hchen.himiuix.R;
 import com.hchen.himiuix.helper.HapticFeedbackHelper;
+import com.hchen.himiuix.helper.HapticScheduler;
 import com.hchen.himiuix.utils.MiuixUtils;
 
 import java.util.ArrayList;
@@ -857,10 +858,10 @@ public class SpringBackLayout extends ViewGroup implements NestedScrollingParent
         if (isHapticFeedbackEnabled) {
             if (orientation == VERTICAL) {
                 if (Math.abs(currentScrollY) >= 250)
-                    HapticFeedbackHelper.performHapticFeedback(this, HapticFeedbackHelper.MIUI_SCROLL_EDGE);
+                    HapticScheduler.perform(this, HapticFeedbackHelper.MIUI_SCROLL_EDGE);
             } else {
                 if (Math.abs(currentScrollX) >= 150)
-                    HapticFeedbackHelper.performHapticFeedback(this, HapticFeedbackHelper.MIUI_SCROLL_EDGE);
+                    HapticScheduler.perform(this, HapticFeedbackHelper.MIUI_SCROLL_EDGE);
             }
         }
     }
@@ -20,13 +20,14 @@ package com.hchen.himiuix.utils;
 
 import androidx.annotation.NonNull;
 
+import com.hchen.himiuix.helper.AuditHelper;
+
 import java.lang.reflect.Field;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
-import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.HashMap;
-import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Invoke Utils
@@ -34,8 +35,10 @@ import java.util.List;
  * @author 焕晨HChen
  */
 public class InvokeUtils {
-    private static final HashMap<String, Method> mMethodCache = new HashMap<>();
-    private static final HashMap<String, Field> mFieldCache = new HashMap<>();
+    private static final int MAX_CACHE_SIZE = 512;
+    // Optional.empty() 表示成员不存在，避免重复查找
+    private static final ConcurrentHashMap<MemberKey, Optional<Method>> mMethodCache = new ConcurrentHashMap<>();
+    private static final ConcurrentHashMap<MemberKey, Optional<Field>> mFieldCache = new ConcurrentHashMap<>();
 
     private InvokeUtils() {
     }
@@ -138,33 +141,14 @@ public class InvokeUtils {
             clazz = instance.getClass();
         }
 
+        Method declaredMethod = findMethod(clazz, methodName, paramTypes);
+        long auditBegin = AuditHelper.begin();
         try {
-            Method declaredMethod;
-            String id = clazz.getName() + "#" + methodName + "#" + Arrays.toString(paramTypes);
-            declaredMethod = mMethodCache.get(id);
-            if (declaredMethod == null) {
-                try {
-                    declaredMethod = clazz.getDeclaredMethod(methodName, paramTypes);
-                } catch (NoSuchMethodException e) {
-                    while (true) {
-                        clazz = clazz.getSuperclass();
-                        if (clazz == null || clazz.equals(Object.class))
-                            break;
-
-                        try {
-                            declaredMethod = clazz.getDeclaredMethod(methodName, paramTypes);
-                            break;
-                        } catch (NoSuchMethodException ignored) {
-                        }
-                    }
-                    if (declaredMethod == null) throw e;
-                }
-                declaredMethod.setAccessible(true);
-                mMethodCache.put(id, declaredMethod);
-            }
             return (T) declaredMethod.invoke(instance, params);
-        } catch (NoSuchMethodException | IllegalAccessException | InvocationTargetException e) {
+        } catch (IllegalAccessException | InvocationTargetException e) {
             throw new RuntimeException(e);
+        } finally {
+            AuditHelper.end(AuditHelper.REFLECT_INVOKE, methodName, auditBegin);
         }
     }
 
@@ -178,39 +162,73 @@ public class InvokeUtils {
             clazz = instance.getClass();
         }
 
+        Field declaredField = findField(clazz, fieldName);
+        long auditBegin = AuditHelper.begin();
         try {
-            Field declaredField;
-            String id = clazz.getName() + "#" + fieldName;
-            declaredField = mFieldCache.get(id);
-            if (declaredField == null) {
-                try {
-                    declaredField = clazz.getDeclaredField(fieldName);
-                } catch (NoSuchFieldException e) {
-                    while (true) {
-                        clazz = clazz.getSuperclass();
-                        if (clazz == null || clazz.equals(Object.class))
-                            break;
-
-                        try {
-                            declaredField = clazz.getDeclaredField(fieldName);
-                            break;
-                        } catch (NoSuchFieldException ignored) {
-                        }
-                    }
-                    if (declaredField == null) throw e;
-                }
-                declaredField.setAccessible(true);
-                mFieldCache.put(id, declaredField);
-            }
-
             if (isSetter) {
                 declaredField.set(instance, value);
                 return null;
             } else
                 return (T) declaredField.get(instance);
-        } catch (NoSuchFieldException | IllegalAccessException e) {
+        } catch (IllegalAccessException e) {
             throw new RuntimeException(e);
+        } finally {
+            AuditHelper.end(AuditHelper.REFLECT_INVOKE, fieldName, auditBegin);
+        }
+    }
+
+    static Method findMethod(Class<?> clazz, String methodName, Class<?>[] paramTypes) {
+        MemberKey key = new MemberKey(clazz, methodName, paramTypes);
+        Optional<Method> cached = mMethodCache.get(key);
+        if (cached == null) {
+            long auditBegin = AuditHelper.begin();
+            Method declaredMethod = null;
+            Class<?> current = clazz;
+            while (current != null && !current.equals(Object.class)) {
+                try {
+                    declaredMethod = current.getDeclaredMethod(methodName, paramTypes);
+                    declaredMethod.setAccessible(true);
+                    break;
+                } catch (NoSuchMethodException ignored) {
+                    current = current.getSuperclass();
+                }
+            }
+            cached = putCache(mMethodCache, key, Optional.ofNullable(declaredMethod));
+            AuditHelper.end(AuditHelper.REFLECT_LOOKUP, methodName, auditBegin);
+        }
+        return cached.orElseThrow(() -> new RuntimeException(
+            new NoSuchMethodException(clazz.getName() + "#" + methodName + Arrays.toString(paramTypes))));
+    }
+
+    static Field findField(Class<?> clazz, String fieldName) {
+        MemberKey key = new MemberKey(clazz, fieldName, null);
+        Optional<Field> cached = mFieldCache.get(key);
+        if (cached == null) {
+            long auditBegin = AuditHelper.begin();
+            Field declaredField = null;
+            Class<?> current = clazz;
+            while (current != null && !current.equals(Object.class)) {
+                try {
+                    declaredField = current.getDeclaredField(fieldName);
+                    declaredField.setAccessible(true);
+                    break;
+                } catch (NoSuchFieldException ignored) {
+                    current = current.getSuperclass();
+                }
+            }
+            cached = putCache(mFieldCache, key, Optional.ofNullable(declaredField));
+            AuditHelper.end(AuditHelper.REFLECT_LOOKUP, fieldName, auditBegin);
         }
+        return cached.orElseThrow(() -> new RuntimeException(
+            new NoSuchFieldException(clazz.getName() + "#" + fieldName)));
+    }
+
+    // 超出上限时整体清空，反射成员数量有限，正常情况下不会触发
+    // 并发查找同一成员时以先写入者为准，保证同一 key 始终返回同一实例
+    private static <V> V putCache(ConcurrentHashMap<MemberKey, V> cache, MemberKey key, V value) {
+        if (cache.size() >= MAX_CACHE_SIZE) cache.clear();
+        V previous = cache.putIfAbsent(key, value);
+        return previous != null ? previous : value;
     }
 
     /**
@@ -240,17 +258,50 @@ public class InvokeUtils {
      * @noinspection IfCanBeSwitch
      */
     public static Class<?>[] getParamTypes(ClassLoader classLoader, @NonNull Object... paramTypes) {
-        List<Class<?>> classes = new ArrayList<>();
-        for (Object type : paramTypes) {
+        Class<?>[] classes = new Class<?>[paramTypes.length];
+        for (int i = 0; i < paramTypes.length; i++) {
+            Object type = paramTypes[i];
             if (type == null)
                 throw new NullPointerException("Param type must not be null: " + Arrays.toString(paramTypes));
             else if (type instanceof String strType)
-                classes.add(findClass(strType, classLoader));
+                classes[i] = findClass(strType, classLoader);
             else if (type instanceof Class<?> clazz)
-                classes.add(clazz);
+                classes[i] = clazz;
             else
                 throw new RuntimeException("Unknown param type! param type must either be specified as Class or String: " + Arrays.toString(paramTypes));
         }
-        return classes.toArray(new Class[0]);
+        return classes;
+    }
+
+    /**
+     * 缓存键，由类、成员名与参数类型组成
+     */
+    private static final class MemberKey {
+        private final Class<?> clazz;
+        private final String name;
+        private final Class<?>[] paramTypes;
+        private final int hash;
+
+        private MemberKey(Class<?> clazz, String name, Class<?>[] paramTypes) {
+            this.clazz = clazz;
+            this.name = name;
+            this.paramTypes = paramTypes;
+            this.hash = 31 * (31 * clazz.hashCode() + name.hashCode()) + Arrays.hashCode(paramTypes);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof MemberKey key)) return false;
+            return hash == key.hash &&
+                clazz == key.clazz &&
+                name.equals(key.name) &&
+                Arrays.equals(paramTypes, key.paramTypes);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
     }
 }
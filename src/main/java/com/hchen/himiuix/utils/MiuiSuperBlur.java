@@ -30,6 +30,8 @@ import android.view.ViewOutlineProvider;
 
 import androidx.appcompat.content.res.AppCompatResources;
 
+import com.hchen.himiuix.helper.AuditHelper;
+
 import java.lang.reflect.Method;
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -232,9 +234,12 @@ public class MiuiSuperBlur {
     }
 
     private static void run(RunnableTry runnable) {
+        long auditBegin = AuditHelper.begin();
         try {
             runnable.run();
         } catch (Throwable ignore) {
+        } finally {
+            AuditHelper.end(AuditHelper.REFLECT_INVOKE, "MiuiSuperBlur", auditBegin);
         }
     }
 
@@ -18,7 +18,7 @@
  */
 package com.hchen.himiuix.utils;
 
-import static com.hchen.himiuix.utils.PropUtils.getProp;
+import static com.hchen.himiuix.utils.PropUtils.getCachedProp;
 
 import android.content.Context;
 import android.content.res.Configuration;
@@ -42,14 +42,20 @@ import java.util.function.Consumer;
  */
 public class MiuixUtils {
     private static final String[] ROM_XIAOMI = {"xiaomi", "redmi"};
+    private static final boolean IS_XIAOMI = checkXiaomi(); // Build 信息在进程内不会变化
 
     /**
      * 判断当前厂商是否为 Xiaomi
      */
     public static boolean isXiaomi() {
+        return IS_XIAOMI;
+    }
+
+    private static boolean checkXiaomi() {
+        String brand = Build.BRAND.toLowerCase();
+        String manufacturer = Build.MANUFACTURER.toLowerCase();
         for (String name : ROM_XIAOMI) {
-            if (Build.BRAND.toLowerCase().contains(name.toLowerCase()) ||
-                Build.MANUFACTURER.toLowerCase().contains(name.toLowerCase())) {
+            if (brand.contains(name) || manufacturer.contains(name)) {
                 return true;
             }
         }
@@ -198,8 +204,8 @@ public class MiuixUtils {
     }
 
     private static boolean isPadByProp() {
-        String deviceType = getProp("ro.build.characteristics", "default");
-        return (deviceType != null && deviceType.toLowerCase().contains("tablet")) || getProp("persist.sys.muiltdisplay_type", 0) == 2;
+        String deviceType = getCachedProp("ro.build.characteristics", "default");
+        return (deviceType != null && deviceType.toLowerCase().contains("tablet")) || getCachedProp("persist.sys.muiltdisplay_type", 0) == 2;
     }
 
     private static boolean isPadBySize(@NonNull Context context) {
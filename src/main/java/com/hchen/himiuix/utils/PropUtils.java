@@ -23,6 +23,8 @@ import static com.hchen.himiuix.utils.InvokeUtils.callStaticMethod;
 import androidx.annotation.NonNull;
 
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
 
 /**
  * Prop Utils
@@ -31,6 +33,9 @@ import java.util.Optional;
  */
 public class PropUtils {
     private static final Class<?> propClass = InvokeUtils.findClass("android.os.SystemProperties");
+    private static final ConcurrentHashMap<String, CachedProp> propCache = new ConcurrentHashMap<>();
+    private static final CopyOnWriteArrayList<Runnable> changeListeners = new CopyOnWriteArrayList<>();
+    private static volatile boolean isChangeCallbackRegistered;
 
     private PropUtils() {
     }
@@ -77,4 +82,134 @@ public class PropUtils {
     public static String getProp(@NonNull String key) {
         return callStaticMethod(propClass, "get", new Class[]{String.class}, key);
     }
+
+    // ---------------------------- 缓存读取 --------------------------------
+
+    /**
+     * 获取 boolean 类型的 prop，仅首次读取时反射，后续直接返回缓存
+     */
+    public static boolean getCachedProp(@NonNull String key, boolean def) {
+        return getCached(key).getBoolean(def);
+    }
+
+    /**
+     * 获取 int 类型的 prop，仅首次读取时反射，后续直接返回缓存
+     */
+    public static int getCachedProp(@NonNull String key, int def) {
+        return getCached(key).getInt(def);
+    }
+
+    /**
+     * 获取 String 类型的 prop，仅首次读取时反射，后续直接返回缓存
+     */
+    public static String getCachedProp(@NonNull String key, String def) {
+        String raw = getCached(key).raw;
+        return raw.isEmpty() ? def : raw;
+    }
+
+    /**
+     * 使指定 prop 的缓存失效
+     */
+    public static void invalidate(@NonNull String key) {
+        propCache.remove(key);
+    }
+
+    /**
+     * 使全部 prop 缓存失效
+     */
+    public static void invalidateAll() {
+        propCache.clear();
+    }
+
+    /**
+     * 添加 prop 变化监听，系统不提供具体变化的 key，回调前缓存已全部失效
+     * <p>
+     * 依赖 SystemProperties.addChangeCallback，不可用时不会回调
+     */
+    public static void addOnPropChangedListener(@NonNull Runnable listener) {
+        changeListeners.addIfAbsent(listener);
+        registerChangeCallbackIfNeed();
+    }
+
+    public static void removeOnPropChangedListener(@NonNull Runnable listener) {
+        changeListeners.remove(listener);
+    }
+
+    private static CachedProp getCached(String key) {
+        CachedProp cached = propCache.get(key);
+        if (cached == null) {
+            registerChangeCallbackIfNeed();
+            cached = new CachedProp(getProp(key, ""));
+            CachedProp previous = propCache.putIfAbsent(key, cached);
+            if (previous != null) cached = previous;
+        }
+        return cached;
+    }
+
+    private static void registerChangeCallbackIfNeed() {
+        if (isChangeCallbackRegistered) return;
+        synchronized (PropUtils.class) {
+            if (isChangeCallbackRegistered) return;
+            isChangeCallbackRegistered = true;
+            try {
+                Runnable callback = () -> {
+                    invalidateAll();
+                    for (Runnable listener : changeListeners) {
+                        listener.run();
+                    }
+                };
+                callStaticMethod(propClass, "addChangeCallback", new Class[]{Runnable.class}, callback);
+            } catch (Throwable ignore) {
+                // 隐藏 API 不可用时仅支持手动失效
+            }
+        }
+    }
+
+    /**
+     * 单个 prop 的快照，按需解析为对应类型
+     */
+    private static final class CachedProp {
+        private static final int UNPARSED = 0;
+        private static final int VALID = 1;
+        private static final int INVALID = 2;
+        private final String raw;
+        private volatile int intState = UNPARSED;
+        private int intValue;
+        private volatile int booleanState = UNPARSED;
+        private boolean booleanValue;
+
+        private CachedProp(String raw) {
+            this.raw = raw == null ? "" : raw;
+        }
+
+        private int getInt(int def) {
+            if (intState == UNPARSED) {
+                try {
+                    intValue = Integer.parseInt(raw.trim());
+                    intState = VALID;
+                } catch (NumberFormatException e) {
+                    intState = INVALID;
+                }
+            }
+            return intState == VALID ? intValue : def;
+        }
+
+        // 与 SystemProperties.getBoolean 保持一致的解析规则
+        private boolean getBoolean(boolean def) {
+            if (booleanState == UNPARSED) {
+                switch (raw) {
+                    case "1", "y", "yes", "on", "true" -> {
+                        booleanValue = true;
+                        booleanState = VALID;
+                    }
+                    case "0", "n", "no", "off", "false" -> {
+                        booleanValue = false;
+                        booleanState = VALID;
+                    }
+                    default -> booleanState = INVALID;
+                }
+            }
+            return booleanState == VALID ? booleanValue : def;
+        }
+    }
 }
@@ -0,0 +1,386 @@
+/*
+ * This file is part of HiMiuix.
+ *
+ * HiMiuix is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * HiMiuix is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with HiMiuix. If not, see <https://www.gnu.org/licenses/lgpl-2.1>.
+ *
+ * Copyright (C) 2023–2025 HChenX
+ */
+package com.hchen.himiuix.widget;
+
+import android.content.Context;
+import android.content.res.ColorStateList;
+import android.content.res.Resources;
+import android.graphics.Canvas;
+import android.graphics.Path;
+import android.graphics.RectF;
+import android.graphics.drawable.Drawable;
+import android.text.Layout;
+import android.text.StaticLayout;
+import android.text.TextPaint;
+import android.text.TextUtils;
+import android.util.AttributeSet;
+import android.view.View;
+import android.view.accessibility.AccessibilityNodeInfo;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.core.content.ContextCompat;
+import androidx.core.text.PrecomputedTextCompat;
+
+import com.hchen.himiuix.R;
+import com.hchen.himiuix.helper.PrecomputedTextHelper;
+
+import java.util.Objects;
+
+/**
+ * 平铺内容视图
+ * <p>
+ * 由单个视图测量并绘制 icon、标题、摘要、tip 与箭头指示器，用于 MiuixBasicView 的平铺模式
+ *
+ * @author 焕晨HChen
+ */
+public class MiuixFlatContentView extends View {
+    private PrecomputedTextCompat.Params titleParams;
+    private PrecomputedTextCompat.Params summaryParams;
+    private PrecomputedTextCompat.Params tipParams;
+    private TextPaint titlePaint;
+    private TextPaint summaryPaint;
+    private TextPaint tipPaint;
+    private final Path iconClipPath = new Path();
+    private final RectF iconRect = new RectF();
+    private ColorStateList titleColor;
+    private ColorStateList summaryColor;
+    private ColorStateList tipColor;
+    private int iconMaxSize;
+    private int iconMargin;
+    private int tipMargin;
+    private int tipMaxWidth;
+    private int indicatorMargin;
+    private int indicatorHeight;
+
+    private Drawable icon;
+    private Drawable indicator;
+    private CharSequence title;
+    private CharSequence summary;
+    private CharSequence tip;
+    private int iconRadius = -1;
+    private boolean isIndicatorVisible;
+
+    // 缓存的文本布局，仅在文本或可用宽度变化时重建
+    private StaticLayout titleLayout;
+    private StaticLayout summaryLayout;
+    private StaticLayout tipLayout;
+    private int iconWidth;
+    private int iconHeight;
+    private int indicatorWidth;
+    private int textHeight;
+
+    public MiuixFlatContentView(@NonNull Context context) {
+        this(context, null);
+    }
+
+    public MiuixFlatContentView(@NonNull Context context, @Nullable AttributeSet attrs) {
+        this(context, attrs, 0);
+    }
+
+    public MiuixFlatContentView(@NonNull Context context, @Nullable AttributeSet attrs, int defStyleAttr) {
+        super(context, attrs, defStyleAttr);
+        init();
+    }
+
+    private void init() {
+        Resources resources = getResources();
+        iconMaxSize = resources.getDimensionPixelSize(R.dimen.miuix_basic_icon_min);
+        iconMargin = resources.getDimensionPixelSize(R.dimen.miuix_icon_margin);
+        tipMargin = resources.getDimensionPixelSize(R.dimen.miuix_tip_margin);
+        tipMaxWidth = resources.getDimensionPixelSize(R.dimen.miuix_tip_max_width);
+        indicatorMargin = resources.getDimensionPixelSize(R.dimen.miuix_indicator_margin);
+        indicatorHeight = resources.getDimensionPixelSize(R.dimen.miuix_basic_custom_indicator);
+
+        titleColor = ContextCompat.getColorStateList(getContext(), R.color.miuix_title_color);
+        summaryColor = ContextCompat.getColorStateList(getContext(), R.color.miuix_summary_color);
+        tipColor = ContextCompat.getColorStateList(getContext(), R.color.miuix_tip_color);
+
+        // 与标准布局使用相同的文本度量参数，以便共用预计算结果
+        titleParams = PrecomputedTextHelper.getParams(getContext(), R.style.MiuixTitleStyle);
+        summaryParams = PrecomputedTextHelper.getParams(getContext(), R.style.MiuixSummaryStyle);
+        tipParams = PrecomputedTextHelper.getParams(getContext(), R.style.MiuixTipStyle);
+        titlePaint = new TextPaint(titleParams.getTextPaint());
+        summaryPaint = new TextPaint(summaryParams.getTextPaint());
+        tipPaint = new TextPaint(tipParams.getTextPaint());
+        updateTextColors();
+    }
+
+    public void setTitle(@Nullable CharSequence title) {
+        if (Objects.equals(this.title, title)) return;
+        this.title = title;
+        titleLayout = null;
+        requestLayout();
+        invalidate();
+    }
+
+    public void setSummary(@Nullable CharSequence summary) {
+        if (Objects.equals(this.summary, summary)) return;
+        this.summary = summary;
+        summaryLayout = null;
+        requestLayout();
+        invalidate();
+    }
+
+    public void setTip(@Nullable CharSequence tip) {
+        if (Objects.equals(this.tip, tip)) return;
+        this.tip = tip;
+        tipLayout = null;
+        requestLayout();
+        invalidate();
+    }
+
+    public void setIcon(@Nullable Drawable icon, int radius) {
+        if (Objects.equals(this.icon, icon) && iconRadius == radius) return;
+        if (this.icon != null && this.icon != icon) this.icon.setCallback(null);
+        this.icon = icon;
+        this.iconRadius = radius;
+        if (icon != null) {
+            icon.setCallback(this);
+            if (icon.isStateful()) icon.setState(getDrawableState());
+        }
+        requestLayout();
+        invalidate();
+    }
+
+    public void setIndicator(@Nullable Drawable indicator) {
+        if (Objects.equals(this.indicator, indicator)) return;
+        if (this.indicator != null && this.indicator != indicator) this.indicator.setCallback(null);
+        this.indicator = indicator;
+        if (indicator != null) {
+            indicator.setCallback(this);
+            if (indicator.isStateful()) indicator.setState(getDrawableState());
+        }
+        requestLayout();
+        invalidate();
+    }
+
+    public void setIndicatorVisible(boolean visible) {
+        if (isIndicatorVisible == visible) return;
+        isIndicatorVisible = visible;
+        requestLayout();
+        invalidate();
+    }
+
+    public boolean isIndicatorVisible() {
+        return isIndicatorVisible && indicator != null;
+    }
+
+    @Override
+    protected void onMeasure(int widthMeasureSpec, int heightMeasureSpec) {
+        int width = MeasureSpec.getSize(widthMeasureSpec);
+        if (MeasureSpec.getMode(widthMeasureSpec) == MeasureSpec.UNSPECIFIED)
+            width = getResources().getDisplayMetrics().widthPixels;
+
+        measureIcon();
+        measureIndicator();
+        int tipWidth = measureTip();
+        int contentWidth = Math.max(0, width - getIconSpace() - getRightSpace(tipWidth));
+
+        titleLayout = obtainLayout(titleLayout, title, titleParams, titlePaint, contentWidth, true);
+        summaryLayout = obtainLayout(summaryLayout, summary, summaryParams, summaryPaint, contentWidth, false);
+        textHeight = (titleLayout != null ? titleLayout.getHeight() : 0) +
+            (summaryLayout != null ? summaryLayout.getHeight() : 0);
+
+        int height = Math.max(textHeight, iconHeight);
+        if (tipLayout != null) height = Math.max(height, tipLayout.getHeight());
+        if (isIndicatorVisible()) height = Math.max(height, indicatorHeight);
+        setMeasuredDimension(width, resolveSize(height, heightMeasureSpec));
+    }
+
+    // 与 adjustViewBounds + maxWidth 的 ImageView 行为保持一致
+    private void measureIcon() {
+        iconWidth = iconHeight = 0;
+        if (icon == null) return;
+
+        int w = icon.getIntrinsicWidth();
+        int h = icon.getIntrinsicHeight();
+        if (w <= 0 || h <= 0) {
+            iconWidth = iconHeight = iconMaxSize;
+        } else if (w > iconMaxSize) {
+            iconWidth = iconMaxSize;
+            iconHeight = Math.round(h * ((float) iconMaxSize / w));
+        } else {
+            iconWidth = w;
+            iconHeight = h;
+        }
+    }
+
+    private void measureIndicator() {
+        indicatorWidth = 0;
+        if (!isIndicatorVisible()) return;
+
+        int w = indicator.getIntrinsicWidth();
+        int h = indicator.getIntrinsicHeight();
+        if (w <= 0 || h <= 0) indicatorWidth = indicatorHeight;
+        else indicatorWidth = Math.round(w * ((float) indicatorHeight / h));
+    }
+
+    private int measureTip() {
+        if (TextUtils.isEmpty(tip)) {
+            tipLayout = null;
+            return 0;
+        }
+
+        int tipWidth = Math.min((int) Math.ceil(Layout.getDesiredWidth(tip, tipPaint)), tipMaxWidth);
+        tipLayout = obtainLayout(tipLayout, tip, tipParams, tipPaint, tipWidth, true);
+        return tipWidth;
+    }
+
+    private int getIconSpace() {
+        return icon != null ? iconWidth + iconMargin : 0;
+    }
+
+    private int getRightSpace(int tipWidth) {
+        int space = 0;
+        if (tipLayout != null) space += tipWidth + tipMargin;
+        if (isIndicatorVisible()) space += indicatorWidth + indicatorMargin;
+        return space;
+    }
+
+    // 命中预计算缓存时使用预计算文本，否则同步排版
+    @Nullable
+    private static StaticLayout obtainLayout(@Nullable StaticLayout cache, @Nullable CharSequence text,
+                                             @NonNull PrecomputedTextCompat.Params params, @NonNull TextPaint paint,
+                                             int width, boolean singleLine) {
+        if (TextUtils.isEmpty(text)) return null;
+        if (cache != null && cache.getWidth() == width) return cache;
+
+        CharSequence source = text;
+        PrecomputedTextCompat precomputed = PrecomputedTextHelper.get(text, params);
+        if (precomputed != null) source = precomputed.getPrecomputedText();
+        if (source == null) source = text;
+
+        StaticLayout.Builder builder = StaticLayout.Builder.obtain(source, 0, source.length(), paint, width)
+            .setAlignment(Layout.Alignment.ALIGN_NORMAL)
+            .setTextDirection(params.getTextDirection())
+            .setBreakStrategy(params.getBreakStrategy())
+            .setHyphenationFrequency(params.getHyphenationFrequency())
+            .setIncludePad(true);
+        if (singleLine) {
+            builder.setMaxLines(1)
+                .setEllipsize(TextUtils.TruncateAt.END)
+                .setEllipsizedWidth(width);
+        }
+        return builder.build();
+    }
+
+    @Override
+    protected void onDraw(@NonNull Canvas canvas) {
+        super.onDraw(canvas);
+        int width = getWidth();
+        int centerY = getHeight() / 2;
+        boolean isRtl = getLayoutDirection() == LAYOUT_DIRECTION_RTL;
+
+        if (icon != null) {
+            int left = mirror(0, iconWidth, width, isRtl);
+            int top = centerY - iconHeight / 2;
+            icon.setBounds(left, top, left + iconWidth, top + iconHeight);
+            if (iconRadius > 0) {
+                // 代替 CardView 对 icon 的圆角裁剪
+                iconRect.set(icon.getBounds());
+                iconClipPath.rewind();
+                iconClipPath.addRoundRect(iconRect, iconRadius, iconRadius, Path.Direction.CW);
+                int save = canvas.save();
+                canvas.clipPath(iconClipPath);
+                icon.draw(canvas);
+                canvas.restoreToCount(save);
+            } else icon.draw(canvas);
+        }
+
+        int tipWidth = tipLayout != null ? tipLayout.getWidth() : 0;
+        int contentWidth = Math.max(0, width - getIconSpace() - getRightSpace(tipWidth));
+        int textTop = centerY - textHeight / 2;
+        int textLeft = mirror(getIconSpace(), contentWidth, width, isRtl);
+        if (titleLayout != null) {
+            drawLayout(canvas, titleLayout, textLeft, textTop);
+            textTop += titleLayout.getHeight();
+        }
+        if (summaryLayout != null)
+            drawLayout(canvas, summaryLayout, textLeft, textTop);
+
+        int rightStart = width - getRightSpace(tipWidth);
+        if (tipLayout != null) {
+            rightStart += tipMargin;
+            drawLayout(canvas, tipLayout, mirror(rightStart, tipWidth, width, isRtl), centerY - tipLayout.getHeight() / 2);
+            rightStart += tipWidth;
+        }
+        if (isIndicatorVisible()) {
+            rightStart += indicatorMargin;
+            int left = mirror(rightStart, indicatorWidth, width, isRtl);
+            int top = centerY - indicatorHeight / 2;
+            indicator.setBounds(left, top, left + indicatorWidth, top + indicatorHeight);
+            indicator.draw(canvas);
+        }
+    }
+
+    private static void drawLayout(@NonNull Canvas canvas, @NonNull StaticLayout layout, int left, int top) {
+        int save = canvas.save();
+        canvas.translate(left, top);
+        layout.draw(canvas);
+        canvas.restoreToCount(save);
+    }
+
+    // 按从左到右计算的位置在 RTL 下镜像
+    private static int mirror(int left, int size, int width, boolean isRtl) {
+        return isRtl ? width - left - size : left;
+    }
+
+    @Override
+    protected void drawableStateChanged() {
+        super.drawableStateChanged();
+        int[] state = getDrawableState();
+        if (icon != null && icon.isStateful()) icon.setState(state);
+        if (indicator != null && indicator.isStateful()) indicator.setState(state);
+        if (updateTextColors()) invalidate();
+    }
+
+    private boolean updateTextColors() {
+        int[] state = getDrawableState();
+        boolean changed = updateTextColor(titlePaint, titleColor, state);
+        changed |= updateTextColor(summaryPaint, summaryColor, state);
+        changed |= updateTextColor(tipPaint, tipColor, state);
+        return changed;
+    }
+
+    private static boolean updateTextColor(@NonNull TextPaint paint, @Nullable ColorStateList list, int[] state) {
+        if (list == null) return false;
+        int color = list.getColorForState(state, list.getDefaultColor());
+        if (paint.getColor() == color) return false;
+        paint.setColor(color);
+        return true;
+    }
+
+    @Override
+    protected boolean verifyDrawable(@NonNull Drawable who) {
+        return who == icon || who == indicator || super.verifyDrawable(who);
+    }
+
+    @Override
+    public void onInitializeAccessibilityNodeInfo(AccessibilityNodeInfo info) {
+        super.onInitializeAccessibilityNodeInfo(info);
+        StringBuilder builder = new StringBuilder();
+        for (CharSequence text : new CharSequence[]{title, summary, tip}) {
+            if (TextUtils.isEmpty(text)) continue;
+            if (builder.length() > 0) builder.append(", ");
+            builder.append(text);
+        }
+        info.setText(builder);
+    }
+}
@@ -0,0 +1,120 @@
+/*
+ * This file is part of HiMiuix.
+ *
+ * HiMiuix is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * HiMiuix is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with HiMiuix. If not, see <https://www.gnu.org/licenses/lgpl-2.1>.
+ *
+ * Copyright (C) 2023–2025 HChenX
+ */
+package com.hchen.himiuix;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+
+import android.app.Activity;
+import android.content.Context;
+import android.util.AttributeSet;
+import android.view.ContextThemeWrapper;
+import android.view.View;
+import android.view.ViewGroup;
+import android.widget.FrameLayout;
+
+import androidx.recyclerview.widget.RecyclerView;
+
+import com.hchen.himiuix.list.MiuixListAdapter;
+import com.hchen.himiuix.list.MiuixListSelection;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.Robolectric;
+import org.robolectric.RobolectricTestRunner;
+import org.robolectric.annotation.Config;
+
+/**
+ * 非对话框模式下替换条目后，选中状态跟随条目而不是位置
+ *
+ * @author 焕晨HChen
+ */
+@RunWith(RobolectricTestRunner.class)
+@Config(sdk = 34)
+public class MiuixListViewTest {
+    private FrameLayout parent;
+    private MiuixListView listView;
+
+    @Before
+    public void setUp() {
+        Activity activity = Robolectric.buildActivity(Activity.class).setup().get();
+        Context context = new ContextThemeWrapper(activity, androidx.appcompat.R.style.Theme_AppCompat_Light);
+        AttributeSet attrs = Robolectric.buildAttributeSet()
+            .addAttribute(R.attr.enableDialogMode, "false")
+            .build();
+        parent = new FrameLayout(context);
+        listView = new MiuixListView(context, attrs);
+        parent.addView(listView);
+        activity.setContentView(parent);
+
+        listView.setItems(new CharSequence[]{"apple", "banana", "cherry"});
+        listView.setSelectedValues(new Integer[]{1});
+        measure();
+    }
+
+    @Test
+    public void reorderKeepsSelectedItem() {
+        listView.setItems(new CharSequence[]{"cherry", "banana", "apple", "date"});
+        listView.setItems(new CharSequence[]{"date", "apple", "cherry", "banana"});
+        measure();
+
+        assertArrayEquals(new Integer[]{3}, listView.getSelectedValues());
+        assertArrayEquals(new CharSequence[]{"banana"}, listView.getSelectedItems());
+        MiuixListSelection selection = findAdapter(parent).getSelection();
+        assertTrue(selection.isSelected(3));
+        assertFalse(selection.isSelected(1));
+    }
+
+    @Test
+    public void removedItemIsDeselected() {
+        listView.setItems(new CharSequence[]{"apple", "cherry"});
+        measure();
+
+        assertArrayEquals(new Integer[0], listView.getSelectedValues());
+        assertTrue(findAdapter(parent).getSelection().isEmpty());
+    }
+
+    private void measure() {
+        parent.measure(View.MeasureSpec.makeMeasureSpec(1080, View.MeasureSpec.EXACTLY),
+            View.MeasureSpec.makeMeasureSpec(0, View.MeasureSpec.UNSPECIFIED));
+        parent.layout(0, 0, parent.getMeasuredWidth(), parent.getMeasuredHeight());
+    }
+
+    private static MiuixListAdapter findAdapter(ViewGroup group) {
+        MiuixListAdapter adapter = findAdapterOrNull(group);
+        assertNotNull(adapter);
+        return adapter;
+    }
+
+    private static MiuixListAdapter findAdapterOrNull(ViewGroup group) {
+        for (int i = 0; i < group.getChildCount(); i++) {
+            View child = group.getChildAt(i);
+            if (child instanceof RecyclerView recyclerView && recyclerView.getAdapter() instanceof MiuixListAdapter adapter)
+                return adapter;
+            if (child instanceof ViewGroup childGroup) {
+                MiuixListAdapter adapter = findAdapterOrNull(childGroup);
+                if (adapter != null) return adapter;
+            }
+        }
+        return null;
+    }
+}
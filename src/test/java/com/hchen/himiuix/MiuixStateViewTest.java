@@ -0,0 +1,156 @@
+/*
+ * This file is part of HiMiuix.
+ *
+ * HiMiuix is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * HiMiuix is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with HiMiuix. If not, see <https://www.gnu.org/licenses/lgpl-2.1>.
+ *
+ * Copyright (C) 2023–2025 HChenX
+ */
+package com.hchen.himiuix;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import android.app.Activity;
+import android.content.Context;
+import android.content.pm.ApplicationInfo;
+import android.util.AttributeSet;
+import android.view.ContextThemeWrapper;
+import android.view.View;
+import android.widget.FrameLayout;
+
+import androidx.test.core.app.ApplicationProvider;
+
+import com.hchen.himiuix.helper.AuditHelper;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.Robolectric;
+import org.robolectric.RobolectricTestRunner;
+import org.robolectric.annotation.Config;
+
+/**
+ * 状态视图的合并刷新与用户操作语义
+ *
+ * @author 焕晨HChen
+ */
+@RunWith(RobolectricTestRunner.class)
+@Config(sdk = 34)
+public class MiuixStateViewTest {
+    private static final String SCREEN = "state";
+    private FrameLayout parent;
+    private MiuixSwitchView switchView;
+    private int listenerCalls;
+
+    @Before
+    public void setUp() {
+        Context application = ApplicationProvider.getApplicationContext();
+        application.getApplicationInfo().flags |= ApplicationInfo.FLAG_DEBUGGABLE;
+        Activity activity = Robolectric.buildActivity(Activity.class).setup().get();
+        Context context = new ContextThemeWrapper(activity, androidx.appcompat.R.style.Theme_AppCompat_Light);
+        parent = new FrameLayout(context);
+        switchView = new MiuixSwitchView(context);
+        parent.addView(switchView);
+        activity.setContentView(parent);
+        measure();
+
+        AuditHelper.setEnabled(application, true);
+        AuditHelper.setCurrentScreen(SCREEN);
+        AuditHelper.reset();
+    }
+
+    @After
+    public void tearDown() {
+        AuditHelper.setEnabled(parent.getContext(), false);
+        AuditHelper.setCurrentScreen(null);
+        AuditHelper.reset();
+    }
+
+    @Test
+    public void settersCoalesceIntoOneRefresh() {
+        switchView.setOnStateChangeListener(newValue -> true);
+        switchView.setChecked(true);
+        switchView.setTipOn("on");
+        switchView.setTipOff("off");
+        switchView.setSummaryOn("summary on");
+        switchView.setSummaryOff("summary off");
+        assertEquals(0, refreshCount());
+
+        measure();
+        assertEquals(1, refreshCount());
+        assertEquals("on", switchView.getTipView().getText().toString());
+        assertEquals("summary on", switchView.getSummaryView().getText().toString());
+    }
+
+    @Test
+    public void setCheckedDoesNotAskListener() {
+        switchView.setOnStateChangeListener(newValue -> {
+            listenerCalls++;
+            return false;
+        });
+        switchView.setChecked(true);
+        measure();
+        assertTrue(switchView.isChecked());
+        assertEquals(0, listenerCalls);
+    }
+
+    @Test
+    public void clickAsksListenerAndRevertsWhenIntercepted() {
+        switchView.setOnStateChangeListener(newValue -> {
+            listenerCalls++;
+            return false;
+        });
+        switchView.performClick();
+        assertFalse(switchView.isChecked());
+        assertEquals(1, listenerCalls);
+
+        switchView.setOnStateChangeListener(newValue -> {
+            listenerCalls++;
+            return true;
+        });
+        switchView.performClick();
+        assertTrue(switchView.isChecked());
+        assertEquals(2, listenerCalls);
+    }
+
+    @Test
+    public void flatLayoutShowsStateTextWithoutChildViews() {
+        AttributeSet attrs = Robolectric.buildAttributeSet()
+            .addAttribute(R.attr.flatLayout, "true")
+            .addAttribute(R.attr.tipOn, "on")
+            .addAttribute(android.R.attr.summaryOff, "summary off")
+            .build();
+        MiuixStateView stateView = new MiuixStateView(parent.getContext(), attrs);
+        parent.addView(stateView);
+        measure();
+        assertTrue(stateView.isFlatLayout());
+
+        stateView.setChecked(true);
+        measure();
+        assertTrue(stateView.isFlatLayout());
+    }
+
+    private int refreshCount() {
+        AuditHelper.ScreenSummary summary = AuditHelper.getSummaries().get(SCREEN);
+        return summary == null ? 0 : summary.getCount(AuditHelper.VIEW_REFRESH);
+    }
+
+    private void measure() {
+        parent.measure(View.MeasureSpec.makeMeasureSpec(1080, View.MeasureSpec.EXACTLY),
+            View.MeasureSpec.makeMeasureSpec(0, View.MeasureSpec.UNSPECIFIED));
+        parent.layout(0, 0, parent.getMeasuredWidth(), parent.getMeasuredHeight());
+    }
+}
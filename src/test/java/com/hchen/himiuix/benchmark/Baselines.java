@@ -0,0 +1,155 @@
+/*
+ * This file is part of HiMiuix.
+ *
+ * HiMiuix is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * HiMiuix is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with HiMiuix. If not, see <https://www.gnu.org/licenses/lgpl-2.1>.
+ *
+ * Copyright (C) 2023–2025 HChenX
+ */
+package com.hchen.himiuix.benchmark;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Properties;
+import java.util.TreeMap;
+
+/**
+ * 基准数据基线
+ * <p>
+ * 基线保存在 src/test/resources/benchmark-baselines.properties，应随代码一同提交；
+ * 超出容差或缺少基线的指标均会失败，普通运行不会修改基线文件。
+ * 新增指标或接受当前结果时使用 ./gradlew test -PrecordBenchmarks=true 重新记录全部基线，并提交该文件
+ *
+ * @author 焕晨HChen
+ */
+final class Baselines {
+    private static final String PATH_PROPERTY = "himiuix.benchmark.baselines";
+    private static final String RECORD_PROPERTY = "himiuix.benchmark.record";
+
+    /**
+     * 指标类型，决定允许的容差
+     */
+    enum Kind {
+        // 次数：不得超过基线
+        COUNT(1.0, 0),
+        // 分配字节：允许 10% 与 1KB 的抖动
+        BYTES(1.1, 1024),
+        // 耗时：不同机器差异较大，仅拦截数量级的退化
+        NANOS(3.0, 0);
+
+        private final double factor;
+        private final double slack;
+
+        Kind(double factor, double slack) {
+            this.factor = factor;
+            this.slack = slack;
+        }
+
+        private double limitOf(double baseline) {
+            return baseline * factor + slack;
+        }
+    }
+
+    private final File file;
+    private final boolean isRecording;
+    private final TreeMap<String, Double> measured = new TreeMap<>();
+    private final List<String> regressions = new ArrayList<>();
+    private final Properties baselines = new Properties();
+
+    Baselines() {
+        String path = System.getProperty(PATH_PROPERTY, "src/test/resources/benchmark-baselines.properties");
+        file = new File(path);
+        isRecording = Boolean.parseBoolean(System.getProperty(RECORD_PROPERTY, "false"));
+        load(baselines);
+    }
+
+    /**
+     * 记录一项指标并与基线比较
+     */
+    void check(String key, double value, Kind kind) {
+        measured.put(key, value);
+        String stored = baselines.getProperty(key);
+        String result;
+        if (isRecording) {
+            result = "recorded";
+        } else if (stored == null) {
+            result = "MISSING BASELINE";
+            regressions.add(key + " = " + format(value) + ", no baseline, run with -PrecordBenchmarks=true");
+        } else {
+            double baseline = Double.parseDouble(stored);
+            double limit = kind.limitOf(baseline);
+            if (value > limit) {
+                result = "REGRESSED (baseline " + format(baseline) + ", limit " + format(limit) + ")";
+                regressions.add(key + " = " + format(value) + ", " + result);
+            } else result = "ok (baseline " + format(baseline) + ")";
+        }
+        System.out.println("[Benchmark]: " + key + " = " + format(value) + " " + result);
+    }
+
+    /**
+     * 记录模式下写入基线，否则在存在退化或缺少基线时抛出 AssertionError
+     */
+    void finish() throws IOException {
+        if (isRecording) {
+            write();
+            return;
+        }
+        if (!regressions.isEmpty())
+            throw new AssertionError("Benchmark regressions:\n" + String.join("\n", regressions));
+    }
+
+    private void write() throws IOException {
+        // 重新读取，合并其它测试类在本次运行中写入的基线
+        Properties merged = new Properties();
+        load(merged);
+        for (String key : measured.keySet()) {
+            merged.setProperty(key, format(measured.get(key)));
+        }
+
+        File parent = file.getParentFile();
+        if (parent != null && !parent.exists() && !parent.mkdirs())
+            throw new IOException("Unable to create " + parent);
+        // 按键排序写入，便于审阅差异
+        TreeMap<String, String> sorted = new TreeMap<>();
+        for (String key : merged.stringPropertyNames()) sorted.put(key, merged.getProperty(key));
+        try (Writer writer = new OutputStreamWriter(new FileOutputStream(file), StandardCharsets.UTF_8)) {
+            writer.write("# HiMiuix benchmark baselines, see Baselines.java\n");
+            for (Map.Entry<String, String> entry : sorted.entrySet()) {
+                writer.write(entry.getKey() + "=" + entry.getValue() + "\n");
+            }
+        }
+    }
+
+    private void load(Properties properties) {
+        if (!file.exists()) return;
+        try (InputStream in = new FileInputStream(file)) {
+            properties.load(in);
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    private static String format(double value) {
+        return String.format(Locale.ROOT, "%.1f", value);
+    }
+}
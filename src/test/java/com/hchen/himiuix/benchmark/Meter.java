@@ -0,0 +1,113 @@
+/*
+ * This file is part of HiMiuix.
+ *
+ * HiMiuix is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * HiMiuix is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with HiMiuix. If not, see <https://www.gnu.org/licenses/lgpl-2.1>.
+ *
+ * Copyright (C) 2023–2025 HChenX
+ */
+package com.hchen.himiuix.benchmark;
+
+import android.content.Context;
+
+import com.hchen.himiuix.helper.AuditHelper;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+
+/**
+ * 测量一段操作的耗时、当前线程分配的字节数以及 AuditHelper 记录的视图开销次数
+ *
+ * @author 焕晨HChen
+ */
+public final class Meter {
+    private static final String SCREEN = "benchmark";
+    private static final com.sun.management.ThreadMXBean threadBean = allocationBean();
+
+    long nanos;
+    long bytes = -1; // JVM 不支持时为 -1
+    int inflateCount;
+    int measureCount;
+    int layoutCount;
+    int refreshCount;
+
+    /**
+     * 执行 iterations 次操作，结果为单次平均值
+     * <p>
+     * 分两轮执行：第一轮关闭审计，测量耗时与分配；第二轮开启审计，统计次数。
+     * 审计本身会分配记录对象，因此不与耗时和分配同时测量。prepare 在每轮开始前执行，不计入结果
+     */
+    static Meter run(Context context, int iterations, Runnable prepare, Runnable operation) {
+        Meter meter = new Meter();
+
+        AuditHelper.setEnabled(context, false);
+        prepare.run();
+        long beginBytes = allocatedBytes();
+        long begin = System.nanoTime();
+        for (int i = 0; i < iterations; i++) {
+            operation.run();
+        }
+        long end = System.nanoTime();
+        long endBytes = allocatedBytes();
+        meter.nanos = (end - begin) / iterations;
+        if (beginBytes >= 0 && endBytes >= 0) meter.bytes = (endBytes - beginBytes) / iterations;
+
+        prepare.run();
+        AuditHelper.setCurrentScreen(SCREEN);
+        AuditHelper.reset();
+        AuditHelper.setEnabled(context, true);
+        try {
+            for (int i = 0; i < iterations; i++) {
+                operation.run();
+            }
+        } finally {
+            AuditHelper.setEnabled(context, false);
+        }
+        AuditHelper.ScreenSummary summary = AuditHelper.getSummaries().get(SCREEN);
+        if (summary != null) {
+            meter.inflateCount = summary.getCount(AuditHelper.VIEW_INFLATE) / iterations;
+            meter.measureCount = summary.getCount(AuditHelper.VIEW_MEASURE) / iterations;
+            meter.layoutCount = summary.getCount(AuditHelper.VIEW_LAYOUT) / iterations;
+            meter.refreshCount = summary.getCount(AuditHelper.VIEW_REFRESH) / iterations;
+        }
+        AuditHelper.reset();
+        return meter;
+    }
+
+    /**
+     * 将全部指标写入基线，前缀如 "MiuixSwitchView.create"
+     */
+    void report(Baselines baselines, String prefix) {
+        baselines.check(prefix + ".nanos", nanos, Baselines.Kind.NANOS);
+        if (bytes >= 0) baselines.check(prefix + ".bytes", bytes, Baselines.Kind.BYTES);
+        baselines.check(prefix + ".inflateCount", inflateCount, Baselines.Kind.COUNT);
+        baselines.check(prefix + ".measureCount", measureCount, Baselines.Kind.COUNT);
+        baselines.check(prefix + ".layoutCount", layoutCount, Baselines.Kind.COUNT);
+        baselines.check(prefix + ".refreshCount", refreshCount, Baselines.Kind.COUNT);
+    }
+
+    // 当前线程累计分配的字节数，仅 HotSpot 等提供 com.sun.management 扩展的 JVM 支持
+    public static long allocatedBytes() {
+        if (threadBean == null) return -1;
+        return threadBean.getThreadAllocatedBytes(Thread.currentThread().getId());
+    }
+
+    private static com.sun.management.ThreadMXBean allocationBean() {
+        ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+        if (bean instanceof com.sun.management.ThreadMXBean sunBean && sunBean.isThreadAllocatedMemorySupported()) {
+            sunBean.setThreadAllocatedMemoryEnabled(true);
+            return sunBean;
+        }
+        return null;
+    }
+}
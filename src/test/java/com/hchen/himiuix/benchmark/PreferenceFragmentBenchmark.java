@@ -0,0 +1,139 @@
+/*
+ * This file is part of HiMiuix.
+ *
+ * HiMiuix is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * HiMiuix is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with HiMiuix. If not, see <https://www.gnu.org/licenses/lgpl-2.1>.
+ *
+ * Copyright (C) 2023–2025 HChenX
+ */
+package com.hchen.himiuix.benchmark;
+
+import android.content.Context;
+import android.content.pm.ApplicationInfo;
+import android.os.Bundle;
+import android.view.View;
+
+import androidx.annotation.Nullable;
+import androidx.appcompat.app.AppCompatActivity;
+import androidx.preference.PreferenceScreen;
+import androidx.recyclerview.widget.RecyclerView;
+import androidx.test.core.app.ApplicationProvider;
+
+import com.hchen.himiuix.fragment.PreferenceFragmentCompat;
+import com.hchen.himiuix.preference.MiuixPreference;
+import com.hchen.himiuix.preference.MiuixSwitchPreference;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.Robolectric;
+import org.robolectric.RobolectricTestRunner;
+import org.robolectric.android.controller.ActivityController;
+import org.robolectric.annotation.Config;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+
+/**
+ * 200 行设置页的首帧与滚动开销
+ * <p>
+ * attach：提交 Fragment 并完成首次测量与布局；scroll：向下滚动一屏
+ *
+ * @author 焕晨HChen
+ */
+@RunWith(RobolectricTestRunner.class)
+@Config(sdk = 34)
+public class PreferenceFragmentBenchmark {
+    private static final int ROWS = 200;
+    private static final int WIDTH = 1080;
+    private static final int HEIGHT = 2400;
+    private static final int ATTACH_ITERATIONS = 3;
+    private static final int SCROLL_PAGES = 8;
+    private Context application;
+    private Baselines baselines;
+
+    @Before
+    public void setUp() {
+        application = ApplicationProvider.getApplicationContext();
+        application.getApplicationInfo().flags |= ApplicationInfo.FLAG_DEBUGGABLE;
+        baselines = new Baselines();
+    }
+
+    @After
+    public void tearDown() throws IOException {
+        baselines.finish();
+    }
+
+    @Test
+    public void attach() {
+        attachTo(newActivity()); // 预热
+
+        // 两轮测量各需要一组新的 Activity，创建 Activity 不计入结果
+        ArrayDeque<AppCompatActivity> activities = new ArrayDeque<>();
+        Meter.run(application, ATTACH_ITERATIONS, () -> {
+            activities.clear();
+            for (int i = 0; i < ATTACH_ITERATIONS; i++) activities.add(newActivity());
+        }, () -> attachTo(activities.poll())).report(baselines, "PreferenceFragment200.attach");
+    }
+
+    @Test
+    public void scroll() {
+        AppCompatActivity activity = newActivity();
+        RecyclerView listView = attachTo(activity).getListView();
+        View root = activity.findViewById(android.R.id.content);
+        for (int i = 0; i < SCROLL_PAGES; i++) listView.scrollBy(0, HEIGHT); // 预热复用池
+        Meter.run(application, SCROLL_PAGES, () -> {
+            listView.scrollToPosition(0);
+            layout(root);
+        }, () -> listView.scrollBy(0, HEIGHT)).report(baselines, "PreferenceFragment200.scroll");
+    }
+
+    private static AppCompatActivity newActivity() {
+        ActivityController<AppCompatActivity> controller = Robolectric.buildActivity(AppCompatActivity.class);
+        controller.get().setTheme(androidx.appcompat.R.style.Theme_AppCompat_Light);
+        return controller.setup().get();
+    }
+
+    private static BenchmarkFragment attachTo(AppCompatActivity activity) {
+        BenchmarkFragment fragment = new BenchmarkFragment();
+        activity.getSupportFragmentManager().beginTransaction()
+            .add(android.R.id.content, fragment)
+            .commitNow();
+        layout(activity.findViewById(android.R.id.content));
+        return fragment;
+    }
+
+    private static void layout(View root) {
+        root.measure(View.MeasureSpec.makeMeasureSpec(WIDTH, View.MeasureSpec.EXACTLY),
+            View.MeasureSpec.makeMeasureSpec(HEIGHT, View.MeasureSpec.EXACTLY));
+        root.layout(0, 0, WIDTH, HEIGHT);
+    }
+
+    public static class BenchmarkFragment extends PreferenceFragmentCompat {
+        @Override
+        public void onCreatePreferences(@Nullable Bundle savedInstanceState, @Nullable String rootKey) {
+            Context context = getPreferenceManager().getContext();
+            PreferenceScreen screen = getPreferenceManager().createPreferenceScreen(context);
+            for (int i = 0; i < ROWS; i++) {
+                MiuixPreference preference = i % 3 == 0 ? new MiuixSwitchPreference(context) : new MiuixPreference(context);
+                preference.setKey("row_" + i);
+                preference.setTitle("Row " + i);
+                preference.setSummary("Summary " + i);
+                preference.setPersistent(false);
+                screen.addPreference(preference);
+            }
+            setPreferenceScreen(screen);
+        }
+    }
+}
@@ -0,0 +1,133 @@
+/*
+ * This file is part of HiMiuix.
+ *
+ * HiMiuix is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * HiMiuix is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with HiMiuix. If not, see <https://www.gnu.org/licenses/lgpl-2.1>.
+ *
+ * Copyright (C) 2023–2025 HChenX
+ */
+package com.hchen.himiuix.benchmark;
+
+import android.app.Activity;
+import android.content.Context;
+import android.content.pm.ApplicationInfo;
+import android.view.ContextThemeWrapper;
+import android.view.View;
+import android.widget.FrameLayout;
+
+import androidx.test.core.app.ApplicationProvider;
+
+import com.hchen.himiuix.MiuixBasicView;
+import com.hchen.himiuix.MiuixCheckBoxView;
+import com.hchen.himiuix.MiuixEditTextView;
+import com.hchen.himiuix.MiuixSeekBarView;
+import com.hchen.himiuix.MiuixSwitchView;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.Robolectric;
+import org.robolectric.RobolectricTestRunner;
+import org.robolectric.annotation.Config;
+
+import java.io.IOException;
+import java.util.function.Function;
+
+/**
+ * 各控件的创建与重新布局开销
+ * <p>
+ * create：创建、挂载、测量并布局一次；relayout：内容不变时再次测量与布局
+ *
+ * @author 焕晨HChen
+ */
+@RunWith(RobolectricTestRunner.class)
+@Config(sdk = 34)
+public class WidgetBenchmark {
+    private static final int WARM_UP = 20;
+    private static final int ITERATIONS = 50;
+    private Context context;
+    private FrameLayout parent;
+    private Baselines baselines;
+
+    @Before
+    public void setUp() {
+        Context application = ApplicationProvider.getApplicationContext();
+        application.getApplicationInfo().flags |= ApplicationInfo.FLAG_DEBUGGABLE;
+        Activity activity = Robolectric.buildActivity(Activity.class).setup().get();
+        context = new ContextThemeWrapper(activity, androidx.appcompat.R.style.Theme_AppCompat_Light);
+        parent = new FrameLayout(context);
+        activity.setContentView(parent);
+        baselines = new Baselines();
+    }
+
+    @After
+    public void tearDown() throws IOException {
+        baselines.finish();
+    }
+
+    @Test
+    public void basicView() {
+        measure("MiuixBasicView", MiuixBasicView::new);
+    }
+
+    @Test
+    public void switchView() {
+        measure("MiuixSwitchView", MiuixSwitchView::new);
+    }
+
+    @Test
+    public void checkBoxView() {
+        measure("MiuixCheckBoxView", MiuixCheckBoxView::new);
+    }
+
+    @Test
+    public void seekBarView() {
+        measure("MiuixSeekBarView", MiuixSeekBarView::new);
+    }
+
+    @Test
+    public void editTextView() {
+        measure("MiuixEditTextView", MiuixEditTextView::new);
+    }
+
+    private void measure(String name, Function<Context, View> factory) {
+        Runnable create = () -> {
+            View view = factory.apply(context);
+            parent.addView(view);
+            layout();
+            parent.removeView(view);
+        };
+        for (int i = 0; i < WARM_UP; i++) create.run();
+        Meter.run(context, ITERATIONS, () -> {
+        }, create).report(baselines, name + ".create");
+
+        View view = factory.apply(context);
+        parent.addView(view);
+        layout();
+        Runnable relayout = () -> {
+            view.requestLayout();
+            layout();
+        };
+        for (int i = 0; i < WARM_UP; i++) relayout.run();
+        Meter.run(context, ITERATIONS, () -> {
+        }, relayout).report(baselines, name + ".relayout");
+        parent.removeView(view);
+    }
+
+    private void layout() {
+        parent.measure(View.MeasureSpec.makeMeasureSpec(1080, View.MeasureSpec.EXACTLY),
+            View.MeasureSpec.makeMeasureSpec(0, View.MeasureSpec.UNSPECIFIED));
+        parent.layout(0, 0, parent.getMeasuredWidth(), parent.getMeasuredHeight());
+    }
+}
@@ -0,0 +1,178 @@
+/*
+ * This file is part of HiMiuix.
+ *
+ * HiMiuix is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * HiMiuix is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with HiMiuix. If not, see <https://www.gnu.org/licenses/lgpl-2.1>.
+ *
+ * Copyright (C) 2023–2025 HChenX
+ */
+package com.hchen.himiuix.helper;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import android.content.Context;
+import android.content.pm.ApplicationInfo;
+
+import androidx.test.core.app.ApplicationProvider;
+
+import com.hchen.himiuix.utils.InvokeUtils;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+import org.robolectric.annotation.Config;
+
+import java.util.List;
+
+/**
+ * AuditHelper 测试
+ *
+ * @author 焕晨HChen
+ */
+@RunWith(RobolectricTestRunner.class)
+@Config(sdk = 34)
+public class AuditHelperTest {
+    private Context context;
+
+    @Before
+    public void setUp() {
+        context = ApplicationProvider.getApplicationContext();
+        context.getApplicationInfo().flags |= ApplicationInfo.FLAG_DEBUGGABLE;
+        AuditHelper.reset();
+        AuditHelper.setCurrentScreen(null);
+        AuditHelper.setMainThreadBudget(-1);
+        AuditHelper.setEnabled(context, true);
+    }
+
+    @After
+    public void tearDown() {
+        AuditHelper.setEnabled(context, false);
+        AuditHelper.setMainThreadBudget(-1);
+        AuditHelper.setCurrentScreen(null);
+        AuditHelper.reset();
+    }
+
+    @Test
+    public void disabledRecordsNothing() {
+        AuditHelper.setEnabled(context, false);
+        long begin = AuditHelper.begin();
+        assertEquals(0, begin);
+        AuditHelper.end(AuditHelper.VIEW_REFRESH, "test", begin);
+        assertTrue(AuditHelper.getRecords().isEmpty());
+        assertTrue(AuditHelper.getSummaries().isEmpty());
+    }
+
+    @Test
+    public void ignoredInNonDebuggableApp() {
+        AuditHelper.setEnabled(context, false);
+        context.getApplicationInfo().flags &= ~ApplicationInfo.FLAG_DEBUGGABLE;
+        AuditHelper.setEnabled(context, true);
+        assertFalse(AuditHelper.isEnabled());
+    }
+
+    @Test
+    public void reflectionIsAttributedToCaller() {
+        AuditHelper.setCurrentScreen("reflection");
+        InvokeUtils.callMethod(new Target(), "hidden", new Object[]{});
+
+        AuditHelper.ScreenSummary summary = AuditHelper.getSummaries().get("reflection");
+        assertEquals(1, summary.getCount(AuditHelper.REFLECT_LOOKUP));
+        assertEquals(1, summary.getCount(AuditHelper.REFLECT_INVOKE));
+
+        // 调用方应跳过 utils 包，定位到本测试
+        List<AuditHelper.Record> records = AuditHelper.getRecords();
+        assertEquals(2, records.size());
+        for (AuditHelper.Record record : records) {
+            assertEquals("hidden", record.detail);
+            assertEquals("reflection", record.screen);
+            assertTrue(record.caller, record.caller.startsWith(AuditHelperTest.class.getName()));
+        }
+
+        // 第二次调用命中缓存，只记录调用
+        InvokeUtils.callMethod(new Target(), "hidden", new Object[]{});
+        summary = AuditHelper.getSummaries().get("reflection");
+        assertEquals(1, summary.getCount(AuditHelper.REFLECT_LOOKUP));
+        assertEquals(2, summary.getCount(AuditHelper.REFLECT_INVOKE));
+    }
+
+    @Test
+    public void backgroundThreadIsNotCountedAsMainThread() throws InterruptedException {
+        AuditHelper.setCurrentScreen("background");
+        Thread thread = new Thread(() -> {
+            long begin = AuditHelper.begin();
+            spin();
+            AuditHelper.end(AuditHelper.PREFS_READ, "key", begin);
+        });
+        thread.start();
+        thread.join();
+
+        AuditHelper.ScreenSummary summary = AuditHelper.getSummaries().get("background");
+        assertEquals(1, summary.getCount(AuditHelper.PREFS_READ));
+        assertEquals(0, summary.getMainThreadNanos());
+        assertTrue(summary.getTotalNanos() > 0);
+
+        long begin = AuditHelper.begin();
+        spin();
+        AuditHelper.end(AuditHelper.PREFS_READ, "key", begin);
+        summary = AuditHelper.getSummaries().get("background");
+        assertEquals(2, summary.getCount(AuditHelper.PREFS_READ));
+        assertTrue(summary.getMainThreadNanos(AuditHelper.PREFS_READ) > 0);
+    }
+
+    @Test
+    public void budgetExceededThrows() {
+        AuditHelper.setCurrentScreen("budget");
+        long begin = AuditHelper.begin();
+        spin();
+        AuditHelper.end(AuditHelper.VIEW_INFLATE, "row", begin);
+
+        AuditHelper.assertWithinBudget();
+        AuditHelper.setMainThreadBudget(Long.MAX_VALUE);
+        AuditHelper.assertWithinBudget();
+        AuditHelper.setMainThreadBudget(0);
+        try {
+            AuditHelper.assertWithinBudget();
+            fail();
+        } catch (AssertionError e) {
+            assertTrue(e.getMessage(), e.getMessage().contains("budget"));
+        }
+    }
+
+    @Test
+    public void recordsAreBounded() {
+        for (int i = 0; i < 1500; i++) {
+            AuditHelper.end(AuditHelper.VIEW_MEASURE, "view", AuditHelper.begin());
+        }
+        assertEquals(1000, AuditHelper.getRecords().size());
+        assertEquals(1500, AuditHelper.getSummaries().get("unknown").getCount(AuditHelper.VIEW_MEASURE));
+    }
+
+    // 确保耗时大于 0
+    private static void spin() {
+        long begin = System.nanoTime();
+        while (System.nanoTime() - begin < 100_000) {
+            Thread.onSpinWait();
+        }
+    }
+
+    @SuppressWarnings("unused")
+    private static class Target {
+        private void hidden() {
+        }
+    }
+}
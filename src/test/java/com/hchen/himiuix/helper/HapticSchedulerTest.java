@@ -0,0 +1,133 @@
+/*
+ * This file is part of HiMiuix.
+ *
+ * HiMiuix is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * HiMiuix is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with HiMiuix. If not, see <https://www.gnu.org/licenses/lgpl-2.1>.
+ *
+ * Copyright (C) 2023–2025 HChenX
+ */
+package com.hchen.himiuix.helper;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import android.content.Context;
+import android.view.View;
+
+import androidx.test.core.app.ApplicationProvider;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+import org.robolectric.annotation.Config;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * HapticScheduler 测试，时间由测试控制
+ *
+ * @author 焕晨HChen
+ */
+@RunWith(RobolectricTestRunner.class)
+@Config(sdk = 34)
+public class HapticSchedulerTest {
+    private final List<View> performedViews = new ArrayList<>();
+    private final List<Integer> performedFlags = new ArrayList<>();
+    private long now = 1000;
+    private HapticScheduler scheduler;
+    private View first;
+    private View second;
+
+    @Before
+    public void setUp() {
+        Context context = ApplicationProvider.getApplicationContext();
+        first = new View(context);
+        second = new View(context);
+        scheduler = new HapticScheduler(() -> now, (view, flag) -> {
+            performedViews.add(view);
+            performedFlags.add(flag);
+        });
+    }
+
+    @Test
+    public void firstRequestIsImmediate() {
+        assertTrue(scheduler.request(first, HapticFeedbackHelper.MIUI_TAP_NORMAL));
+        assertEquals(1, performedFlags.size());
+    }
+
+    @Test
+    public void burstKeepsOnlyLeadingRequest() {
+        scheduler.request(first, HapticFeedbackHelper.MIUI_TAP_NORMAL);
+        now += 5;
+        assertFalse(scheduler.request(first, HapticFeedbackHelper.MIUI_TAP_NORMAL));
+        now += 5;
+        assertFalse(scheduler.request(second, HapticFeedbackHelper.MIUI_TAP_NORMAL));
+
+        // 窗口结束后不会补发被丢弃的请求
+        now += 100;
+        assertEquals(1, performedFlags.size());
+        assertSame(first, performedViews.get(0));
+    }
+
+    @Test
+    public void nestedEdgeHitsVibrateOnce() {
+        // 嵌套的 SpringBackLayout 在同一手势中依次触边
+        scheduler.request(first, HapticFeedbackHelper.MIUI_SCROLL_EDGE);
+        now += 16;
+        scheduler.request(second, HapticFeedbackHelper.MIUI_SCROLL_EDGE);
+        now += 1000;
+        assertEquals(1, performedFlags.size());
+    }
+
+    @Test
+    public void droppedRequestDoesNotExtendWindow() {
+        scheduler.request(first, HapticFeedbackHelper.MIUI_TAP_NORMAL);
+        now += 20;
+        scheduler.request(first, HapticFeedbackHelper.MIUI_TAP_NORMAL);
+        now += 10; // 距第一次执行 30ms
+        assertTrue(scheduler.request(first, HapticFeedbackHelper.MIUI_TAP_NORMAL));
+        assertEquals(2, performedFlags.size());
+    }
+
+    @Test
+    public void differentTypesDoNotSuppressEachOther() {
+        scheduler.request(first, HapticFeedbackHelper.MIUI_TAP_LIGHT);
+        scheduler.request(first, HapticFeedbackHelper.MIUI_HOLD);
+        now += 1;
+        scheduler.request(first, HapticFeedbackHelper.MIUI_SCROLL_EDGE);
+        assertEquals(3, performedFlags.size());
+        assertEquals(HapticFeedbackHelper.MIUI_TAP_LIGHT, (int) performedFlags.get(0));
+        assertEquals(HapticFeedbackHelper.MIUI_HOLD, (int) performedFlags.get(1));
+        assertEquals(HapticFeedbackHelper.MIUI_SCROLL_EDGE, (int) performedFlags.get(2));
+    }
+
+    @Test
+    public void customIntervalIsRespected() {
+        scheduler.setMinInterval(HapticFeedbackHelper.MIUI_HOLD, 0);
+        scheduler.request(first, HapticFeedbackHelper.MIUI_HOLD);
+        scheduler.request(first, HapticFeedbackHelper.MIUI_HOLD);
+        assertEquals(2, performedFlags.size());
+    }
+
+    @Test
+    public void resetClearsWindow() {
+        scheduler.request(first, HapticFeedbackHelper.MIUI_TAP_NORMAL);
+        scheduler.reset();
+        assertTrue(scheduler.request(second, HapticFeedbackHelper.MIUI_TAP_NORMAL));
+        assertEquals(2, performedFlags.size());
+    }
+}
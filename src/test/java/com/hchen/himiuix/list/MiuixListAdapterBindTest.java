@@ -0,0 +1,159 @@
+/*
+ * This file is part of HiMiuix.
+ *
+ * HiMiuix is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * HiMiuix is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with HiMiuix. If not, see <https://www.gnu.org/licenses/lgpl-2.1>.
+ *
+ * Copyright (C) 2023–2025 HChenX
+ */
+package com.hchen.himiuix.list;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assume.assumeTrue;
+
+import android.app.Activity;
+import android.content.Context;
+import android.view.ContextThemeWrapper;
+
+import com.hchen.himiuix.benchmark.Meter;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.Robolectric;
+import org.robolectric.RobolectricTestRunner;
+import org.robolectric.annotation.Config;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * 列表绑定与差异快照的分配
+ *
+ * @author 焕晨HChen
+ */
+@RunWith(RobolectricTestRunner.class)
+@Config(sdk = 34)
+public class MiuixListAdapterBindTest {
+    private static final int ROWS = 200;
+    private static final int WARM_UP = 50;
+    private static final int ITERATIONS = 200;
+    private static final int SCREEN = 12;
+    // 第 1 行为选中状态，从第 2 行开始均未选中
+    private static final int FIRST_UNCHECKED = 2;
+    private static final List<Object> PAYLOADS = Collections.singletonList(MiuixListAdapter.PAYLOAD_CHECKED);
+    private MiuixListAdapter adapter;
+    private MiuixListSelection selection;
+
+    @Before
+    public void setUp() {
+        assumeTrue(Meter.allocatedBytes() >= 0);
+        Activity activity = Robolectric.buildActivity(Activity.class).setup().get();
+        Context context = new ContextThemeWrapper(activity, androidx.appcompat.R.style.Theme_AppCompat_Light);
+        CharSequence[] items = new CharSequence[ROWS];
+        for (int i = 0; i < ROWS; i++) items[i] = "Item " + i;
+
+        adapter = new MiuixListAdapter(context);
+        adapter.setMultipleChoiceEnabled(true);
+        selection = new MiuixListSelection();
+        selection.set(1, true);
+        adapter.setSelection(selection);
+        // 首次提交不经过后台差异计算，当前列表立即可用
+        adapter.setItems(items);
+        assertEquals(ROWS, adapter.getItemCount());
+    }
+
+    @Test
+    public void testPayloadRebindDoesNotAllocate() {
+        MiuixListAdapter.MiuixListViewHolder unchecked = createAndBind(0);
+        MiuixListAdapter.MiuixListViewHolder checked = createAndBind(1);
+        for (int i = 0; i < WARM_UP; i++) {
+            adapter.onBindViewHolder(unchecked, 0, PAYLOADS);
+            adapter.onBindViewHolder(checked, 1, PAYLOADS);
+        }
+
+        long begin = Meter.allocatedBytes();
+        for (int i = 0; i < ITERATIONS; i++) {
+            adapter.onBindViewHolder(unchecked, 0, PAYLOADS);
+            adapter.onBindViewHolder(checked, 1, PAYLOADS);
+        }
+        assertEquals(0, Meter.allocatedBytes() - begin);
+    }
+
+    @Test
+    public void testFullRebindAcrossPositionsDoesNotAllocate() {
+        // 模拟快速滑动：一屏数量的 ViewHolder 轮流绑定到不同位置
+        // 只使用未选中的行，选中状态切换带来的 drawable 状态分配由下一个测试覆盖
+        MiuixListAdapter.MiuixListViewHolder[] holders = new MiuixListAdapter.MiuixListViewHolder[SCREEN];
+        for (int i = 0; i < SCREEN; i++) holders[i] = createAndBind(FIRST_UNCHECKED + i);
+        for (int i = 0; i < WARM_UP; i++) flingOnce(holders, i);
+
+        long begin = Meter.allocatedBytes();
+        for (int i = 0; i < ITERATIONS; i++) flingOnce(holders, i);
+        assertEquals(0, Meter.allocatedBytes() - begin);
+    }
+
+    @Test
+    public void testPayloadToggleOnlyAllocatesDrawableState() {
+        // 两个固定的行保持两种文字颜色被引用，避免 ColorStateList 缓存被回收
+        createAndBind(0);
+        createAndBind(1);
+        MiuixListAdapter.MiuixListViewHolder holder = createAndBind(0);
+        for (int i = 0; i < WARM_UP; i++) {
+            adapter.onBindViewHolder(holder, 1, PAYLOADS);
+            adapter.onBindViewHolder(holder, 0, PAYLOADS);
+        }
+
+        long begin = Meter.allocatedBytes();
+        for (int i = 0; i < ITERATIONS; i++) {
+            adapter.onBindViewHolder(holder, 1, PAYLOADS);
+            adapter.onBindViewHolder(holder, 0, PAYLOADS);
+        }
+        long perBind = (Meter.allocatedBytes() - begin) / (ITERATIONS * 2L);
+        // 选中状态变化时框架会为 drawable 状态分配一个小数组，其余路径不应分配
+        assertTrue("Allocated " + perBind + " bytes per bind", perBind <= 64);
+    }
+
+    @Test
+    public void testSelectionSnapshotReusesUnchangedRows() {
+        for (int i = 0; i < WARM_UP; i++) toggle(2);
+
+        long begin = Meter.allocatedBytes();
+        for (int i = 0; i < ITERATIONS; i++) toggle(2);
+        long perSubmit = (Meter.allocatedBytes() - begin) / ITERATIONS;
+        // 快照数组约为每行 4 字节，若每行都重新创建 ListItem 将超过每行 40 字节
+        assertTrue("Allocated " + perSubmit + " bytes per submit", perSubmit < ROWS * 16L);
+    }
+
+    // 每轮把所有 ViewHolder 绑定到下一屏的位置
+    private void flingOnce(MiuixListAdapter.MiuixListViewHolder[] holders, int round) {
+        int span = ROWS - FIRST_UNCHECKED;
+        for (int i = 0; i < holders.length; i++) {
+            int position = FIRST_UNCHECKED + (round * holders.length + i) % span;
+            adapter.onBindViewHolder(holders[i], position);
+        }
+    }
+
+    private void toggle(int value) {
+        selection.set(value, !selection.isSelected(value));
+        adapter.notifySelectionChanged();
+    }
+
+    private MiuixListAdapter.MiuixListViewHolder createAndBind(int position) {
+        MiuixListAdapter.MiuixListViewHolder holder =
+            adapter.onCreateViewHolder(adapter.getRecyclerView(), adapter.getItemViewType(position));
+        adapter.onBindViewHolder(holder, position);
+        return holder;
+    }
+}
@@ -0,0 +1,182 @@
+/*
+ * This file is part of HiMiuix.
+ *
+ * HiMiuix is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * HiMiuix is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with HiMiuix. If not, see <https://www.gnu.org/licenses/lgpl-2.1>.
+ *
+ * Copyright (C) 2023–2025 HChenX
+ */
+package com.hchen.himiuix.list;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.robolectric.Shadows.shadowOf;
+
+import android.app.Activity;
+import android.content.Context;
+import android.os.Looper;
+import android.view.ContextThemeWrapper;
+import android.view.View;
+
+import androidx.annotation.NonNull;
+import androidx.recyclerview.widget.RecyclerView;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.Robolectric;
+import org.robolectric.RobolectricTestRunner;
+import org.robolectric.annotation.Config;
+
+import java.util.Set;
+
+/**
+ * 分页数据源的选中状态按文本保存，且每页加载只刷新该页的行
+ *
+ * @author 焕晨HChen
+ */
+@RunWith(RobolectricTestRunner.class)
+@Config(sdk = 34)
+public class MiuixListAdapterPagingTest {
+    private static final int COUNT = 200;
+    private static final int PAGE_SIZE = 5;
+    private Activity activity;
+    private MiuixListAdapter adapter;
+    private MiuixListSelection selection;
+    private RecyclerView recyclerView;
+    private volatile String[] data;
+
+    @Before
+    public void setUp() {
+        activity = Robolectric.buildActivity(Activity.class).setup().get();
+        Context context = new ContextThemeWrapper(activity, androidx.appcompat.R.style.Theme_AppCompat_Light);
+        data = new String[COUNT];
+        for (int i = 0; i < COUNT; i++) data[i] = "Item " + i;
+
+        adapter = new MiuixListAdapter(context);
+        adapter.setMultipleChoiceEnabled(true);
+        selection = new MiuixListSelection();
+        adapter.setSelection(selection);
+        adapter.setDataSource(new MiuixListDataSource() {
+            @Override
+            public int getCount() {
+                return data.length;
+            }
+
+            @NonNull
+            @Override
+            public CharSequence[] loadRange(int start, int count) {
+                String[] snapshot = data;
+                CharSequence[] result = new CharSequence[count];
+                System.arraycopy(snapshot, start, result, 0, count);
+                return result;
+            }
+        }, PAGE_SIZE, PAGE_SIZE);
+        recyclerView = adapter.getRecyclerView();
+        activity.setContentView(recyclerView);
+    }
+
+    @Test
+    public void testPositionalSelectionBecomesKeyWhenLoaded() {
+        selection.set(2, true);
+        adapter.notifySelectionChanged();
+        assertTrue(adapter.getSelectedKeys().isEmpty());
+
+        awaitText(2, "Item 2");
+        assertEquals(Set.of("Item 2"), adapter.getSelectedKeys());
+    }
+
+    @Test
+    public void testSelectionFollowsTextAcrossInvalidate() {
+        awaitText(2, "Item 2");
+        selection.set(2, true);
+        adapter.notifySelectionChanged();
+
+        reverseData();
+        adapter.invalidateDataSource();
+        // 重新加载前选中的条目依然保留
+        assertEquals(Set.of("Item 2"), adapter.getSelectedKeys());
+        assertFalse(selection.isSelected(2));
+
+        int moved = COUNT - 1 - 2;
+        recyclerView.scrollToPosition(moved);
+        awaitText(moved, "Item 2");
+        assertTrue(selection.isSelected(moved));
+        assertFalse(selection.isSelected(2));
+    }
+
+    @Test
+    public void testSetSelectionKeepsKeysOfUnloadedPages() {
+        awaitText(2, "Item 2");
+        selection.set(2, true);
+        adapter.notifySelectionChanged();
+        reverseData();
+        adapter.invalidateDataSource();
+
+        // 外部重新提交选中状态时，未加载的条目不应被丢弃
+        adapter.setSelection(selection);
+        assertEquals(Set.of("Item 2"), adapter.getSelectedKeys());
+    }
+
+    @Test
+    public void testPageLoadOnlyRefreshesLoadedRows() {
+        int[] changed = new int[2];
+        adapter.registerAdapterDataObserver(new RecyclerView.AdapterDataObserver() {
+            @Override
+            public void onChanged() {
+                changed[0]++;
+            }
+
+            @Override
+            public void onItemRangeChanged(int positionStart, int itemCount, Object payload) {
+                changed[1] += itemCount;
+            }
+        });
+        awaitText(0, "Item 0");
+
+        assertEquals(0, changed[0]);
+        // 只刷新已绑定过的占位行，而不是全部条目
+        assertTrue("Changed " + changed[1] + " rows", changed[1] <= recyclerView.getChildCount() + PAGE_SIZE);
+    }
+
+    private void reverseData() {
+        String[] reversed = new String[COUNT];
+        for (int i = 0; i < COUNT; i++) reversed[i] = data[COUNT - 1 - i];
+        data = reversed;
+    }
+
+    // 分页在后台线程加载，完成后投递到主线程，重新布局后检查行的文本
+    private void awaitText(int position, String text) {
+        for (int i = 0; i < 400; i++) {
+            layout();
+            RecyclerView.ViewHolder holder = recyclerView.findViewHolderForAdapterPosition(position);
+            if (holder instanceof MiuixListAdapter.MiuixListViewHolder row
+                && text.contentEquals(row.textView.getText())) return;
+
+            try {
+                Thread.sleep(5);
+            } catch (InterruptedException e) {
+                throw new AssertionError(e);
+            }
+            shadowOf(Looper.getMainLooper()).idle();
+        }
+        throw new AssertionError("Row " + position + " never showed " + text);
+    }
+
+    private void layout() {
+        recyclerView.measure(View.MeasureSpec.makeMeasureSpec(1080, View.MeasureSpec.EXACTLY),
+            View.MeasureSpec.makeMeasureSpec(2400, View.MeasureSpec.EXACTLY));
+        recyclerView.layout(0, 0, recyclerView.getMeasuredWidth(), recyclerView.getMeasuredHeight());
+    }
+}
@@ -0,0 +1,124 @@
+/*
+ * This file is part of HiMiuix.
+ *
+ * HiMiuix is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * HiMiuix is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with HiMiuix. If not, see <https://www.gnu.org/licenses/lgpl-2.1>.
+ *
+ * Copyright (C) 2023–2025 HChenX
+ */
+package com.hchen.himiuix.list;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import android.app.Activity;
+import android.content.Context;
+import android.view.ContextThemeWrapper;
+import android.view.View;
+
+import androidx.recyclerview.widget.RecyclerView;
+
+import com.hchen.himiuix.callback.OnChooseItemListener;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.Robolectric;
+import org.robolectric.RobolectricTestRunner;
+import org.robolectric.annotation.Config;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 条目替换后选中状态跟随条目
+ *
+ * @author 焕晨HChen
+ */
+@RunWith(RobolectricTestRunner.class)
+@Config(sdk = 34)
+public class MiuixListAdapterSelectionTest {
+    private Activity activity;
+    private MiuixListAdapter adapter;
+    private MiuixListSelection selection;
+
+    @Before
+    public void setUp() {
+        activity = Robolectric.buildActivity(Activity.class).setup().get();
+        Context context = new ContextThemeWrapper(activity, androidx.appcompat.R.style.Theme_AppCompat_Light);
+        adapter = new MiuixListAdapter(context);
+        adapter.setMultipleChoiceEnabled(true);
+        selection = new MiuixListSelection();
+        adapter.setSelection(selection);
+        adapter.setItems(new CharSequence[]{"Apple", "Banana", "Cherry"});
+    }
+
+    @Test
+    public void testSelectionFollowsInsertedItems() {
+        selection.set(1, true);
+        selection.set(2, true);
+        adapter.setItems(new CharSequence[]{"Avocado", "Apple", "Banana", "Cherry"});
+        assertArrayEquals(new int[]{2, 3}, selection.toArray());
+    }
+
+    @Test
+    public void testSelectionFollowsReorderAndDropsRemovedItems() {
+        selection.set(0, true);
+        selection.set(1, true);
+        adapter.setItems(new CharSequence[]{"Cherry", "Apple"});
+        assertArrayEquals(new int[]{1}, selection.toArray());
+    }
+
+    @Test
+    public void testDuplicateItemsKeepOccurrence() {
+        adapter.setItems(new CharSequence[]{"Same", "Same", "Other"});
+        selection.set(1, true);
+        adapter.setItems(new CharSequence[]{"Other", "Same", "Same"});
+        assertFalse(selection.isSelected(1));
+        assertTrue(selection.isSelected(2));
+    }
+
+    @Test
+    public void testExplicitSelectionIsNotRemapped() {
+        MiuixListSelection next = new MiuixListSelection(new int[]{0});
+        adapter.submitItems(new CharSequence[]{"Avocado", "Apple"}, null, next);
+        assertArrayEquals(new int[]{0}, next.toArray());
+    }
+
+    @Test
+    public void testTapBeforeDiffLandsReportsTappedItem() {
+        adapter.setMultipleChoiceEnabled(false);
+        List<String> chosen = new ArrayList<>();
+        adapter.setOnChooseItemListener(new OnChooseItemListener() {
+            @Override
+            public void onChooseAfter(CharSequence[] items, CharSequence[] selectedItems, Integer[] selectedValues) {
+                chosen.add(selectedItems[0] + "@" + selectedValues[0]);
+            }
+        });
+        RecyclerView recyclerView = adapter.getRecyclerView();
+        activity.setContentView(recyclerView);
+        recyclerView.measure(View.MeasureSpec.makeMeasureSpec(1080, View.MeasureSpec.EXACTLY),
+            View.MeasureSpec.makeMeasureSpec(2400, View.MeasureSpec.AT_MOST));
+        recyclerView.layout(0, 0, recyclerView.getMeasuredWidth(), recyclerView.getMeasuredHeight());
+        MiuixListAdapter.MiuixListViewHolder cherry =
+            (MiuixListAdapter.MiuixListViewHolder) recyclerView.findViewHolderForAdapterPosition(2);
+
+        // 差异计算在后台进行，主线程未空闲前列表仍显示旧快照
+        adapter.setItems(new CharSequence[]{"Cherry", "Apple"});
+        assertTrue(cherry.xCheckBox.setUserChecked(true));
+        assertEquals(List.of("Cherry@0"), chosen);
+        assertTrue(selection.isSelected(0));
+    }
+}
@@ -0,0 +1,67 @@
+/*
+ * This file is part of HiMiuix.
+ *
+ * HiMiuix is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * HiMiuix is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with HiMiuix. If not, see <https://www.gnu.org/licenses/lgpl-2.1>.
+ *
+ * Copyright (C) 2023–2025 HChenX
+ */
+package com.hchen.himiuix.list;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertNull;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+import org.robolectric.annotation.Config;
+
+/**
+ * 过滤索引的前缀匹配
+ *
+ * @author 焕晨HChen
+ */
+@RunWith(RobolectricTestRunner.class)
+@Config(sdk = 34)
+public class MiuixListFilterTest {
+    private final MiuixListFilter filter = new MiuixListFilter(new CharSequence[]{
+        "Wi-Fi Settings", "Bluetooth", null, "显示与亮度", "Display", "亮度自动调节"
+    });
+
+    @Test
+    public void testEmptyQueryDoesNotFilter() {
+        assertNull(filter.query(null));
+        assertNull(filter.query(" "));
+    }
+
+    @Test
+    public void testMatchesWordStartsOnly() {
+        assertArrayEquals(new int[]{0}, filter.query("set"));
+        assertArrayEquals(new int[]{0}, filter.query("fi"));
+        assertArrayEquals(new int[]{}, filter.query("ettings"));
+        assertArrayEquals(new int[]{1}, filter.query("BLUE"));
+    }
+
+    @Test
+    public void testMatchesEveryIdeograph() {
+        assertArrayEquals(new int[]{3, 5}, filter.query("亮度"));
+        assertArrayEquals(new int[]{5}, filter.query("自动"));
+        assertArrayEquals(new int[]{3}, filter.query("显示与亮度"));
+    }
+
+    @Test
+    public void testPrefixLongerThanSuffix() {
+        assertArrayEquals(new int[]{}, filter.query("bluetooth headset"));
+        assertArrayEquals(new int[]{4}, filter.query("display"));
+    }
+}
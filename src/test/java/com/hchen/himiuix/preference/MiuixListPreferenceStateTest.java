@@ -0,0 +1,102 @@
+/*
+ * This file is part of HiMiuix.
+ *
+ * HiMiuix is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * HiMiuix is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with HiMiuix. If not, see <https://www.gnu.org/licenses/lgpl-2.1>.
+ *
+ * Copyright (C) 2023–2025 HChenX
+ */
+package com.hchen.himiuix.preference;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertNull;
+
+import android.app.Activity;
+import android.content.Context;
+import android.os.Parcel;
+import android.os.Parcelable;
+import android.view.ContextThemeWrapper;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.Robolectric;
+import org.robolectric.RobolectricTestRunner;
+import org.robolectric.annotation.Config;
+
+/**
+ * 非持久化的选择状态应能经 Parcel 往返恢复
+ *
+ * @author 焕晨HChen
+ */
+@RunWith(RobolectricTestRunner.class)
+@Config(sdk = 34)
+public class MiuixListPreferenceStateTest {
+    private Context context;
+
+    @Before
+    public void setUp() {
+        Activity activity = Robolectric.buildActivity(Activity.class).setup().get();
+        context = new ContextThemeWrapper(activity, androidx.appcompat.R.style.Theme_AppCompat_Light);
+    }
+
+    @Test
+    public void selectedValuesSurviveParcel() {
+        MiuixListPreference source = newPreference();
+        source.setSelectedValues(new Integer[]{2, 0, 5});
+
+        MiuixListPreference target = newPreference();
+        target.onRestoreInstanceState(roundTrip(source.onSaveInstanceState()));
+
+        assertArrayEquals(new Integer[]{2, 0, 5}, target.getSelectedValues());
+    }
+
+    @Test
+    public void emptySelectionSurvivesParcel() {
+        MiuixListPreference source = newPreference();
+        source.setSelectedValues(new Integer[0]);
+
+        MiuixListPreference target = newPreference();
+        target.onRestoreInstanceState(roundTrip(source.onSaveInstanceState()));
+
+        assertArrayEquals(new Integer[0], target.getSelectedValues());
+    }
+
+    @Test
+    public void missingSelectionStaysNull() {
+        MiuixListPreference source = newPreference();
+
+        MiuixListPreference target = newPreference();
+        target.onRestoreInstanceState(roundTrip(source.onSaveInstanceState()));
+
+        assertNull(target.getSelectedValues());
+    }
+
+    private MiuixListPreference newPreference() {
+        MiuixListPreference preference = new MiuixListPreference(context);
+        preference.setPersistent(false);
+        return preference;
+    }
+
+    @SuppressWarnings("deprecation")
+    private static Parcelable roundTrip(Parcelable state) {
+        Parcel parcel = Parcel.obtain();
+        try {
+            parcel.writeParcelable(state, 0);
+            parcel.setDataPosition(0);
+            return parcel.readParcelable(MiuixListPreference.class.getClassLoader());
+        } finally {
+            parcel.recycle();
+        }
+    }
+}
@@ -0,0 +1,133 @@
+/*
+ * This file is part of HiMiuix.
+ *
+ * HiMiuix is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * HiMiuix is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with HiMiuix. If not, see <https://www.gnu.org/licenses/lgpl-2.1>.
+ *
+ * Copyright (C) 2023–2025 HChenX
+ */
+package com.hchen.himiuix.preference;
+
+import static org.junit.Assert.assertEquals;
+
+import android.app.Activity;
+import android.content.Context;
+import android.content.pm.ApplicationInfo;
+import android.view.ContextThemeWrapper;
+import android.view.LayoutInflater;
+import android.view.View;
+import android.widget.FrameLayout;
+
+import androidx.annotation.LayoutRes;
+import androidx.preference.PreferenceViewHolder;
+import androidx.test.core.app.ApplicationProvider;
+
+import com.hchen.himiuix.R;
+import com.hchen.himiuix.helper.AuditHelper;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.Robolectric;
+import org.robolectric.RobolectricTestRunner;
+import org.robolectric.annotation.Config;
+
+/**
+ * 每次绑定只应触发一次视图刷新
+ *
+ * @author 焕晨HChen
+ */
+@RunWith(RobolectricTestRunner.class)
+@Config(sdk = 34)
+public class MiuixPreferenceBindTest {
+    private static final String SCREEN = "bind";
+    private Activity activity;
+    private Context context;
+
+    @Before
+    public void setUp() {
+        Context application = ApplicationProvider.getApplicationContext();
+        application.getApplicationInfo().flags |= ApplicationInfo.FLAG_DEBUGGABLE;
+        activity = Robolectric.buildActivity(Activity.class).setup().get();
+        context = new ContextThemeWrapper(activity, androidx.appcompat.R.style.Theme_AppCompat_Light);
+        AuditHelper.setEnabled(application, true);
+        AuditHelper.setCurrentScreen(SCREEN);
+    }
+
+    @After
+    public void tearDown() {
+        AuditHelper.setEnabled(context, false);
+        AuditHelper.setCurrentScreen(null);
+        AuditHelper.reset();
+    }
+
+    @Test
+    public void basicPreferenceRefreshesOncePerBind() {
+        MiuixPreference preference = new MiuixPreference(context);
+        preference.setTitle("title");
+        preference.setSummary("summary");
+        preference.setTip("tip");
+
+        PreferenceViewHolder holder = createHolder(R.layout.miuix_preference);
+        assertEquals(1, bindAndCountRefreshes(preference, holder));
+        // 重复绑定同一内容同样只刷新一次
+        assertEquals(1, bindAndCountRefreshes(preference, holder));
+    }
+
+    @Test
+    public void switchPreferenceRefreshesOncePerBind() {
+        MiuixSwitchPreference first = new MiuixSwitchPreference(context);
+        first.setTitle("first");
+        first.setChecked(true);
+        first.setTipOnText("on");
+        first.setTipOffText("off");
+        first.setSummaryOnText("summary on");
+        first.setSummaryOffText("summary off");
+
+        MiuixSwitchPreference second = new MiuixSwitchPreference(context);
+        second.setTitle("second");
+        second.setSummaryOnText("enabled");
+
+        PreferenceViewHolder holder = createHolder(R.layout.miuix_switch_preference);
+        assertEquals(1, bindAndCountRefreshes(first, holder));
+        // 复用同一视图绑定不同的条目
+        assertEquals(1, bindAndCountRefreshes(second, holder));
+        assertEquals(1, bindAndCountRefreshes(first, holder));
+    }
+
+    private PreferenceViewHolder createHolder(@LayoutRes int layout) {
+        // 附加到窗口，与 RecyclerView 中的条目一致
+        FrameLayout parent = new FrameLayout(context);
+        View view = LayoutInflater.from(context).inflate(layout, parent, false);
+        parent.addView(view);
+        activity.setContentView(parent);
+        measure(parent);
+        return PreferenceViewHolder.createInstanceForTests(view);
+    }
+
+    private int bindAndCountRefreshes(MiuixPreference preference, PreferenceViewHolder holder) {
+        AuditHelper.reset();
+        preference.onBindViewHolder(holder);
+        // 刷新在测量前合并执行
+        measure((View) holder.itemView.getParent());
+        AuditHelper.ScreenSummary summary = AuditHelper.getSummaries().get(SCREEN);
+        return summary == null ? 0 : summary.getCount(AuditHelper.VIEW_REFRESH);
+    }
+
+    private static void measure(View view) {
+        view.measure(View.MeasureSpec.makeMeasureSpec(1080, View.MeasureSpec.EXACTLY),
+            View.MeasureSpec.makeMeasureSpec(0, View.MeasureSpec.UNSPECIFIED));
+        view.layout(0, 0, view.getMeasuredWidth(), view.getMeasuredHeight());
+    }
+}
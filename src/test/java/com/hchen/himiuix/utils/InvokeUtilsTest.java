@@ -0,0 +1,171 @@
+/*
+ * This file is part of HiMiuix.
+ *
+ * HiMiuix is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * HiMiuix is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with HiMiuix. If not, see <https://www.gnu.org/licenses/lgpl-2.1>.
+ *
+ * Copyright (C) 2023–2025 HChenX
+ */
+package com.hchen.himiuix.utils;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import org.junit.Test;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * InvokeUtils 并发缓存压力测试
+ *
+ * @author 焕晨HChen
+ */
+public class InvokeUtilsTest {
+    private static final int THREADS = 16;
+    private static final int ITERATIONS = 2000;
+    private static final int MEMBERS = 32;
+
+    @Test
+    public void concurrentLookupReturnsSameInstance() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<Object[]>> futures = new ArrayList<>();
+        // 每个线程各自收集查找结果，最后比较是否为同一实例
+        for (int t = 0; t < THREADS; t++) {
+            futures.add(executor.submit(() -> {
+                start.await();
+                Object[] members = new Object[MEMBERS * 2];
+                for (int i = 0; i < MEMBERS; i++) {
+                    members[i * 2] = InvokeUtils.findMethod(Target.class, "method" + (i % 4), new Class<?>[]{int.class});
+                    members[i * 2 + 1] = InvokeUtils.findField(Target.class, "field" + (i % 4));
+                }
+                return members;
+            }));
+        }
+        start.countDown();
+
+        Object[] first = null;
+        for (Future<Object[]> future : futures) {
+            Object[] members = future.get(30, TimeUnit.SECONDS);
+            if (first == null) first = members;
+            for (int i = 0; i < members.length; i++) {
+                assertSame(first[i], members[i]);
+            }
+        }
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(30, TimeUnit.SECONDS));
+        assertTrue(first[0] instanceof Method);
+        assertTrue(first[1] instanceof Field);
+    }
+
+    @Test
+    public void concurrentInvokeIsConsistent() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(THREADS);
+        ConcurrentLinkedQueue<Throwable> errors = new ConcurrentLinkedQueue<>();
+        for (int t = 0; t < THREADS; t++) {
+            final int seed = t;
+            executor.execute(() -> {
+                try {
+                    start.await();
+                    Target target = new Target();
+                    for (int i = 0; i < ITERATIONS; i++) {
+                        int value = seed * ITERATIONS + i;
+                        int which = i % 4;
+                        int result = InvokeUtils.callMethod(target, "method" + which, new Object[]{int.class}, value);
+                        assertEquals(value + which, result);
+
+                        InvokeUtils.setField(target, "field" + which, value);
+                        int field = InvokeUtils.getField(target, "field" + which);
+                        assertEquals(value, field);
+
+                        // 继承自父类的成员同样命中缓存
+                        assertEquals(seed, (int) InvokeUtils.callMethod(target, "parentMethod", new Object[]{int.class}, seed));
+                    }
+                } catch (Throwable e) {
+                    errors.add(e);
+                } finally {
+                    done.countDown();
+                }
+            });
+        }
+        start.countDown();
+        assertTrue(done.await(60, TimeUnit.SECONDS));
+        executor.shutdown();
+        if (!errors.isEmpty()) {
+            AssertionError error = new AssertionError("Concurrent invoke failed: " + errors.size() + " errors");
+            for (Throwable e : errors) error.addSuppressed(e);
+            throw error;
+        }
+    }
+
+    @Test
+    public void missingMemberIsCachedAndStillThrows() {
+        for (int i = 0; i < 3; i++) {
+            try {
+                InvokeUtils.findMethod(Target.class, "missing", new Class<?>[0]);
+                fail();
+            } catch (RuntimeException e) {
+                assertTrue(e.getCause() instanceof NoSuchMethodException);
+            }
+            try {
+                InvokeUtils.findField(Target.class, "missing");
+                fail();
+            } catch (RuntimeException e) {
+                assertTrue(e.getCause() instanceof NoSuchFieldException);
+            }
+        }
+    }
+
+    private static class Parent {
+        private int parentMethod(int value) {
+            return value;
+        }
+    }
+
+    @SuppressWarnings("unused")
+    private static class Target extends Parent {
+        private int field0;
+        private int field1;
+        private int field2;
+        private int field3;
+
+        private int method0(int value) {
+            return value;
+        }
+
+        private int method1(int value) {
+            return value + 1;
+        }
+
+        private int method2(int value) {
+            return value + 2;
+        }
+
+        private int method3(int value) {
+            return value + 3;
+        }
+    }
+}